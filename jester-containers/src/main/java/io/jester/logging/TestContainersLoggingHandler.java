@@ -1,25 +1,37 @@
 package io.jester.logging;
 
+import java.util.function.Consumer;
+
 import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.output.OutputFrame;
 
 import io.jester.api.Service;
 
-public class TestContainersLoggingHandler extends ServiceLoggingHandler {
-
-    private final GenericContainer<?> container;
-
-    private String oldLogs;
+/**
+ * The container logs are streamed to this handler as these are written, so there is no need to poll the container.
+ */
+public class TestContainersLoggingHandler extends ServiceLoggingHandler implements Consumer<OutputFrame> {
 
     public TestContainersLoggingHandler(Service service, GenericContainer<?> container) {
         super(service);
-        this.container = container;
+        container.withLogConsumer(this);
+    }
+
+    @Override
+    public void accept(OutputFrame frame) {
+        if (frame.getType() != OutputFrame.OutputType.END) {
+            onLines(frame.getUtf8String());
+        }
+    }
+
+    @Override
+    protected void handle() {
+        // the logs are pushed by the container
     }
 
     @Override
-    protected synchronized void handle() {
-        String newLogs = container.getLogs();
-        onStringDifference(newLogs, oldLogs);
-        oldLogs = newLogs;
+    protected boolean isPollingRequired() {
+        return false;
     }
 
 }
@@ -9,6 +9,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.testcontainers.containers.BindMode;
@@ -34,6 +36,8 @@ public abstract class GenericContainerManagedResource extends ManagedResource {
     private final String[] command;
     private final Integer[] ports;
 
+    private final Set<DockerJesterNetwork> attachedNetworks = ConcurrentHashMap.newKeySet();
+
     private DockerJesterNetwork network;
     private GenericContainer<?> innerContainer;
     private LoggingHandler loggingHandler;
@@ -52,8 +56,11 @@ public abstract class GenericContainerManagedResource extends ManagedResource {
             return;
         }
 
-        network = DockerJesterNetwork.getOrCreate(context.getJesterContext());
+        network = DockerJesterNetwork.getOrCreate(context);
         network.attachService(context);
+        if (context.isShared()) {
+            attachedNetworks.add(DockerJesterNetwork.getOrCreate(context.getJesterContext()));
+        }
 
         innerContainer = new GenericContainer<>(getImage());
 
@@ -80,6 +87,7 @@ public abstract class GenericContainerManagedResource extends ManagedResource {
         loggingHandler.startWatching();
 
         doStart();
+        attachedNetworks.forEach(this::connectTo);
     }
 
     @Override
@@ -119,6 +127,13 @@ public abstract class GenericContainerManagedResource extends ManagedResource {
         return loggingHandler;
     }
 
+    @Override
+    protected void onAttach(ServiceContext attachedContext) {
+        DockerJesterNetwork attachedNetwork = DockerJesterNetwork.getOrCreate(attachedContext.getJesterContext());
+        attachedNetworks.add(attachedNetwork);
+        connectTo(attachedNetwork);
+    }
+
     @Override
     protected void init(ServiceContext context) {
         super.init(context);
@@ -129,6 +144,14 @@ public abstract class GenericContainerManagedResource extends ManagedResource {
         return context.getConfigurationAs(DockerServiceConfiguration.class).isPrivileged();
     }
 
+    private synchronized void connectTo(DockerJesterNetwork attachedNetwork) {
+        if (attachedNetwork.isClosed()) {
+            attachedNetworks.remove(attachedNetwork);
+        } else if (isRunning()) {
+            attachedNetwork.connect(innerContainer.getContainerId(), context.getName());
+        }
+    }
+
     private void doStart() {
         try {
             innerContainer.start();
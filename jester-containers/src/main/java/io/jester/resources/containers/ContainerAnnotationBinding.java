@@ -1,7 +1,15 @@
 package io.jester.resources.containers;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.images.RemoteDockerImage;
+import org.testcontainers.utility.DockerImageName;
 
 import io.jester.api.Container;
 import io.jester.api.Service;
@@ -10,15 +18,18 @@ import io.jester.api.extensions.ContainerManagedResourceBinding;
 import io.jester.core.JesterContext;
 import io.jester.core.ManagedResource;
 import io.jester.resources.containers.local.DockerContainerManagedResource;
+import io.jester.utils.PropertiesUtils;
 
 public class ContainerAnnotationBinding implements AnnotationBinding {
 
-    private final ServiceLoader<ContainerManagedResourceBinding> containerBindings = ServiceLoader
-            .load(ContainerManagedResourceBinding.class);
+    private static final String IMAGE = "image";
+
+    private final List<ContainerManagedResourceBinding> containerBindings = ServiceLoader
+            .load(ContainerManagedResourceBinding.class).stream().map(Provider::get).collect(Collectors.toList());
 
     @Override
-    public boolean isFor(Annotation... annotations) {
-        return findAnnotation(annotations, Container.class).isPresent();
+    public List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return List.of(Container.class);
     }
 
     @Override
@@ -28,6 +39,24 @@ public class ContainerAnnotationBinding implements AnnotationBinding {
         return doInit(context, metadata.image(), metadata.expectedLog(), metadata.command(), metadata.ports());
     }
 
+    /**
+     * Every container annotation provides the image to use via the `image` attribute.
+     */
+    @Override
+    public void prefetchImages(Annotation... annotations) {
+        Stream.of(annotations).filter(annotation -> getSupportedAnnotations().contains(annotation.annotationType()))
+                .findFirst().map(this::getImage).ifPresent(this::prefetchImage);
+    }
+
+    /**
+     * Pull the image if it's not present yet, so the container starts faster.
+     */
+    protected void prefetchImage(String image) {
+        if (DockerClientFactory.instance().isDockerAvailable()) {
+            new RemoteDockerImage(DockerImageName.parse(PropertiesUtils.resolveProperty(image))).get();
+        }
+    }
+
     protected ManagedResource doInit(JesterContext context, String image, String expectedLog, String[] command,
             int[] ports) {
         for (ContainerManagedResourceBinding binding : containerBindings) {
@@ -40,4 +69,11 @@ public class ContainerAnnotationBinding implements AnnotationBinding {
         return new DockerContainerManagedResource(image, expectedLog, command, ports);
     }
 
+    private String getImage(Annotation annotation) {
+        try {
+            return (String) annotation.annotationType().getMethod(IMAGE).invoke(annotation);
+        } catch (ReflectiveOperationException ex) {
+            throw new RuntimeException("Annotation " + annotation.annotationType() + " does not provide the image", ex);
+        }
+    }
 }
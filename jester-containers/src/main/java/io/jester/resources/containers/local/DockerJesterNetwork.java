@@ -1,7 +1,7 @@
 package io.jester.resources.containers.local;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.runner.Description;
@@ -10,6 +10,7 @@ import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.Network;
 
 import com.github.dockerjava.api.command.CreateNetworkCmd;
+import com.github.dockerjava.api.model.ContainerNetwork;
 
 import io.jester.core.JesterContext;
 import io.jester.core.ServiceContext;
@@ -17,29 +18,60 @@ import io.jester.core.ServiceContext;
 public class DockerJesterNetwork implements Network, ExtensionContext.Store.CloseableResource {
 
     private static final String NETWORK = "internal.container.network";
+    private static final String SHARED_NETWORK = "internal.shared.container.network";
+    private static final String SHARED_NETWORK_PREFIX = "shared-";
 
-    private final JesterContext context;
-    private final Set<ServiceContext> services = new HashSet<>();
+    private final String id;
+    private final String key;
+    private final ExtensionContext.Store store;
+    private final Set<ServiceContext> services = ConcurrentHashMap.newKeySet();
+    private final Set<String> connectedContainers = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed;
 
     public DockerJesterNetwork(JesterContext context) {
-        this.context = context;
+        this(context.getId(), NETWORK, context.getTestStore());
+    }
+
+    private DockerJesterNetwork(String id, String key, ExtensionContext.Store store) {
+        this.id = id;
+        this.key = key;
+        this.store = store;
         CreateNetworkCmd createNetworkCmd = DockerClientFactory.instance().client().createNetworkCmd();
-        createNetworkCmd.withName(context.getId());
+        createNetworkCmd.withName(id);
         createNetworkCmd.withCheckDuplicate(true);
         createNetworkCmd.exec();
     }
 
     @Override
     public String getId() {
-        return context.getId();
+        return id;
     }
 
     public void attachService(ServiceContext service) {
         services.add(service);
     }
 
+    /**
+     * Connect a running container that is owned by another network, so the services of this network can reach it using
+     * the alias. The container is disconnected when this network is closed.
+     */
+    public void connect(String containerId, String alias) {
+        if (closed || !connectedContainers.add(containerId)) {
+            return;
+        }
+
+        DockerClientFactory.instance().client().connectToNetworkCmd().withNetworkId(id).withContainerId(containerId)
+                .withContainerNetwork(new ContainerNetwork().withAliases(alias)).exec();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
     @Override
     public void close() {
+        closed = true;
         for (ServiceContext service : services) {
             try {
                 service.getOwner().close();
@@ -48,12 +80,20 @@ public class DockerJesterNetwork implements Network, ExtensionContext.Store.Clos
             }
         }
 
+        for (String containerId : connectedContainers) {
+            try {
+                DockerClientFactory.instance().client().disconnectFromNetworkCmd().withNetworkId(id)
+                        .withContainerId(containerId).exec();
+            } catch (Exception ignored) {
+            }
+        }
+
         try {
-            DockerClientFactory.instance().client().removeNetworkCmd(context.getId()).exec();
+            DockerClientFactory.instance().client().removeNetworkCmd(id).exec();
         } catch (Exception ignored) {
         }
 
-        context.getTestStore().remove(NETWORK);
+        store.remove(key);
     }
 
     @Override
@@ -62,6 +102,23 @@ public class DockerJesterNetwork implements Network, ExtensionContext.Store.Clos
         return statement;
     }
 
+    /**
+     * Shared services outlive the test class, so these are attached to a network that is closed once all the tests
+     * finish. Then, the shared containers need to be connected to the network of every test class that uses them (see
+     * {@link #connect}).
+     */
+    public static final DockerJesterNetwork getOrCreate(ServiceContext service) {
+        JesterContext context = service.getJesterContext();
+        if (!service.isShared()) {
+            return getOrCreate(context);
+        }
+
+        return context.getSuiteStore().getOrComputeIfAbsent(SHARED_NETWORK,
+                k -> new DockerJesterNetwork(SHARED_NETWORK_PREFIX + context.getId(), SHARED_NETWORK,
+                        context.getSuiteStore()),
+                DockerJesterNetwork.class);
+    }
+
     public static final DockerJesterNetwork getOrCreate(JesterContext context) {
         return context.getTestStore().getOrComputeIfAbsent(NETWORK, k -> new DockerJesterNetwork(context),
                 DockerJesterNetwork.class);
@@ -1,7 +1,10 @@
 package io.jester.resources.gitremoteproject;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.stream.Collectors;
 
 import io.jester.api.GitRemoteProject;
 import io.jester.api.Service;
@@ -13,12 +16,13 @@ import io.jester.resources.gitremoteproject.local.DockerGitRemoteProjectManagedR
 
 public class GitRemoteProjectAnnotationBinding implements AnnotationBinding {
 
-    private final ServiceLoader<GitRemoteProjectManagedResourceBinding> bindings = ServiceLoader
-            .load(GitRemoteProjectManagedResourceBinding.class);
+    private final List<GitRemoteProjectManagedResourceBinding> bindings = ServiceLoader
+            .load(GitRemoteProjectManagedResourceBinding.class).stream().map(Provider::get)
+            .collect(Collectors.toList());
 
     @Override
-    public boolean isFor(Annotation... annotations) {
-        return findAnnotation(annotations, GitRemoteProject.class).isPresent();
+    public List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return List.of(GitRemoteProject.class);
     }
 
     @Override
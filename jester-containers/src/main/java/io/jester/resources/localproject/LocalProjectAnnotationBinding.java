@@ -1,7 +1,10 @@
 package io.jester.resources.localproject;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.stream.Collectors;
 
 import io.jester.api.LocalProject;
 import io.jester.api.Service;
@@ -13,12 +16,12 @@ import io.jester.resources.localproject.local.DockerLocalProjectManagedResource;
 
 public class LocalProjectAnnotationBinding implements AnnotationBinding {
 
-    private final ServiceLoader<LocalProjectManagedResourceBinding> bindings = ServiceLoader
-            .load(LocalProjectManagedResourceBinding.class);
+    private final List<LocalProjectManagedResourceBinding> bindings = ServiceLoader
+            .load(LocalProjectManagedResourceBinding.class).stream().map(Provider::get).collect(Collectors.toList());
 
     @Override
-    public boolean isFor(Annotation... annotations) {
-        return findAnnotation(annotations, LocalProject.class).isPresent();
+    public List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return List.of(LocalProject.class);
     }
 
     @Override
@@ -0,0 +1,44 @@
+package io.jester.test;
+
+import static io.jester.test.samples.ContainerSamples.QUARKUS_REST_IMAGE;
+import static io.jester.test.samples.ContainerSamples.QUARKUS_STARTUP_EXPECTED_LOG;
+import static io.jester.test.samples.ContainerSamples.SAMPLES_DEFAULT_PORT;
+import static io.jester.test.samples.ContainerSamples.SAMPLES_DEFAULT_REST_PATH;
+import static io.jester.test.samples.ContainerSamples.SAMPLES_DEFAULT_REST_PATH_OUTPUT;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.jester.api.Container;
+import io.jester.api.DependsOn;
+import io.jester.api.Jester;
+import io.jester.api.RestService;
+
+@Tag("containers")
+@Jester(parallelServiceStart = true)
+public class ServiceDependenciesIT {
+
+    private static final List<String> STARTED_SERVICES = new CopyOnWriteArrayList<>();
+
+    @DependsOn("second")
+    @Container(image = QUARKUS_REST_IMAGE, ports = SAMPLES_DEFAULT_PORT, expectedLog = QUARKUS_STARTUP_EXPECTED_LOG)
+    static RestService first = new RestService().onPostStart(s -> STARTED_SERVICES.add(s.getName()));
+
+    @Container(image = QUARKUS_REST_IMAGE, ports = SAMPLES_DEFAULT_PORT, expectedLog = QUARKUS_STARTUP_EXPECTED_LOG)
+    static RestService second = new RestService().onPostStart(s -> STARTED_SERVICES.add(s.getName()));
+
+    @Test
+    public void testServicesStartedAfterDependencies() {
+        assertEquals(List.of("second", "first"), STARTED_SERVICES);
+        first.given().get(SAMPLES_DEFAULT_REST_PATH).then().statusCode(HttpStatus.SC_OK)
+                .body(is(SAMPLES_DEFAULT_REST_PATH_OUTPUT));
+        second.given().get(SAMPLES_DEFAULT_REST_PATH).then().statusCode(HttpStatus.SC_OK)
+                .body(is(SAMPLES_DEFAULT_REST_PATH_OUTPUT));
+    }
+}
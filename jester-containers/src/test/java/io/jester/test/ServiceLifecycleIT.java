@@ -12,8 +12,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.AfterAll;
@@ -71,6 +73,16 @@ public class ServiceLifecycleIT {
         greetings.logs().assertDoesNotContain("This message should not be in the logs");
     }
 
+    @Test
+    public void testServiceLogsSinceMark() {
+        int mark = greetings.logs().mark();
+        greetings.logs().since(mark).assertDoesNotContain(QUARKUS_STARTUP_EXPECTED_LOG);
+
+        String line = greetings.logs().awaitLine(Pattern.compile(QUARKUS_STARTUP_EXPECTED_LOG + ": \\[.+\\]"),
+                Duration.ofSeconds(5));
+        assertTrue(line.contains(QUARKUS_STARTUP_EXPECTED_LOG), "Unexpected line: " + line);
+    }
+
     @Test
     public void testServiceProperties() {
         Optional<String> property = greetings.getProperty(MY_PROPERTY);
@@ -0,0 +1,22 @@
+package io.jester.api;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated service will be started once all the services with the given names are up and running, and will be
+ * stopped before them.
+ */
+@Target(FIELD)
+@Retention(RUNTIME)
+@Documented
+public @interface DependsOn {
+    /**
+     * Names of the services this service depends on.
+     */
+    String[] value();
+}
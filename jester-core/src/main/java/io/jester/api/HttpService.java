@@ -24,7 +24,7 @@ import io.jester.utils.JsonBodyHandler;
 public class HttpService extends BaseService<HttpService> {
 
     private static final int DEFAULT_HTTP_PORT = 8080;
-    private static final String HTTP = "http://";
+    private static final String HTTP = "http";
     private static final String BASE_PATH = "/";
 
     protected final int httpPort;
@@ -139,8 +139,6 @@ public class HttpService extends BaseService<HttpService> {
     }
 
     private URI target(String[] paths) {
-        String url = String.format("%s%s:%s%s", HTTP, getHost(), getMappedPort(httpPort),
-                Stream.of(paths).collect(Collectors.joining("/")));
-        return URI.create(url);
+        return URI.create(getEndpoint().getBaseUri(HTTP, httpPort) + Stream.of(paths).collect(Collectors.joining("/")));
     }
 }
@@ -24,4 +24,22 @@ public @interface Jester {
      * Enable profiling only for Java processes. Fallback property `ts.jester.enable.profiling`.
      */
     boolean enableProfiling() default false;
+
+    /**
+     * Start the auto-start services concurrently instead of one by one. Fallback property
+     * `ts.jester.parallel.service.start`.
+     */
+    boolean parallelServiceStart() default false;
+
+    /**
+     * Maximum number of services to be started at the same time when the parallel service start is enabled. Fallback
+     * property `ts.jester.parallel.service.start.threads`.
+     */
+    int parallelServiceStartThreads() default 4;
+
+    /**
+     * Maximum time to stop all the services of the test class. Once it is exceeded, the processes that are still
+     * running are killed. Default is 1 minute. Fallback property `ts.jester.shutdown.timeout`.
+     */
+    String shutdownTimeout() default "";
 }
@@ -31,4 +31,10 @@ public @interface KubernetesServiceConfiguration {
      * Map additional ports to be used during the tests.
      */
     int[] additionalPorts() default {};
+
+    /**
+     * Wait for the expected log of the service in addition to the deployment being available. Fallback service
+     * property: "ts.services.<SERVICE NAME>.kubernetes.wait-for-expected-log".
+     */
+    boolean waitForExpectedLog() default true;
 }
@@ -0,0 +1,24 @@
+package io.jester.api;
+
+import io.jester.core.ManagedResource;
+
+/**
+ * Check whether a managed resource is ready to be used. Use {@link io.jester.core.readiness.ReadinessProbes} to create
+ * the built-in probes.
+ */
+@FunctionalInterface
+public interface ReadinessProbe {
+
+    /**
+     * @return whether the resource is ready. Exceptions are considered as the resource being not ready yet.
+     */
+    boolean isReady(ManagedResource resource) throws Exception;
+
+    default ReadinessProbe and(ReadinessProbe other) {
+        return resource -> isReady(resource) && other.isReady(resource);
+    }
+
+    default ReadinessProbe or(ReadinessProbe other) {
+        return resource -> isReady(resource) || other.isReady(resource);
+    }
+}
@@ -4,6 +4,7 @@ import static io.jester.utils.Ports.DEFAULT_HTTP_PORT;
 import static io.jester.utils.Ports.DEFAULT_SSL_PORT;
 
 import io.jester.core.BaseService;
+import io.jester.core.ServiceEndpoint;
 import io.jester.logging.Log;
 import io.restassured.RestAssured;
 import io.restassured.specification.RequestSpecification;
@@ -29,28 +30,42 @@ public class RestService extends BaseService<RestService> {
     }
 
     public RequestSpecification given() {
-        return RestAssured.given().baseUri(HTTP + getHost()).basePath(basePath).port(getMappedPort(httpPort));
+        ServiceEndpoint endpoint = getEndpoint();
+        return RestAssured.given().baseUri(HTTP + endpoint.getHost()).basePath(basePath)
+                .port(endpoint.getMappedPort(httpPort));
     }
 
     public RequestSpecification https() {
-        return RestAssured.given().baseUri(HTTPS + getHost()).basePath(basePath).port(getMappedPort(sslPort)).given()
-                .relaxedHTTPSValidation();
+        ServiceEndpoint endpoint = getEndpoint();
+        return RestAssured.given().baseUri(HTTPS + endpoint.getHost()).basePath(basePath)
+                .port(endpoint.getMappedPort(sslPort)).given().relaxedHTTPSValidation();
     }
 
     @Override
     public void start() {
         super.start();
 
-        RestAssured.baseURI = HTTP + getHost();
-        RestAssured.basePath = basePath;
-        RestAssured.port = getMappedPort(httpPort);
+        ServiceEndpoint endpoint = getEndpoint();
+        if (!isParallelExecutionEnabled()) {
+            // the static RestAssured configuration is shared by all the test classes
+            RestAssured.baseURI = HTTP + endpoint.getHost();
+            RestAssured.basePath = basePath;
+            RestAssured.port = endpoint.getMappedPort(httpPort);
+        }
 
-        Log.debug(this, "REST service running at " + HTTP + getHost() + ":" + getMappedPort(httpPort));
+        Log.debug(this,
+                "REST service running at " + HTTP + endpoint.getHost() + ":" + endpoint.getMappedPort(httpPort));
     }
 
     @Override
     public void stop() {
         super.stop();
-        RestAssured.reset();
+        if (!isParallelExecutionEnabled()) {
+            RestAssured.reset();
+        }
+    }
+
+    private boolean isParallelExecutionEnabled() {
+        return getContext() != null && getContext().getJesterContext().isParallelExecutionEnabled();
     }
 }
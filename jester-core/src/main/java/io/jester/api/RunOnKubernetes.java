@@ -27,6 +27,18 @@ public @interface RunOnKubernetes {
      */
     boolean ephemeralNamespaceEnabled() default true;
 
+    /**
+     * Number of ephemeral namespaces to create in background for the next test classes. Fallback property
+     * `ts.kubernetes.ephemeral.namespaces.pool-size`.
+     */
+    int ephemeralNamespacesPoolSize() default 1;
+
+    /**
+     * Delete the resources of the test class instead of the ephemeral namespace, so the namespace can be used by the
+     * next test classes. Fallback property `ts.kubernetes.ephemeral.namespaces.reuse`.
+     */
+    boolean reuseEphemeralNamespaces() default false;
+
     /**
      * Load the additional resources before running all the tests. Fallback property
      * `ts.kubernetes.additional-resources`.
@@ -1,9 +1,11 @@
 package io.jester.api;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 
@@ -11,6 +13,7 @@ import io.jester.api.extensions.AnnotationBinding;
 import io.jester.core.JesterContext;
 import io.jester.core.ManagedResource;
 import io.jester.core.ServiceContext;
+import io.jester.core.ServiceEndpoint;
 import io.jester.utils.LogsVerifier;
 
 public interface Service extends ExtensionContext.Store.CloseableResource {
@@ -33,6 +36,19 @@ public interface Service extends ExtensionContext.Store.CloseableResource {
 
     List<String> getLogs();
 
+    /**
+     * Wait until the service has more log lines than the given number of lines or the timeout expires. It might return
+     * earlier when the logs are not available yet. By default, the logs are checked every 100 milliseconds.
+     */
+    default void awaitLogs(int afterLines, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long remaining = timeout.toNanos();
+        while (getLogs().size() <= afterLines && remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(100)));
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
     ServiceContext register(String serviceName, JesterContext context);
 
     void init(ManagedResource resource);
@@ -47,6 +63,14 @@ public interface Service extends ExtensionContext.Store.CloseableResource {
 
     int getMappedPort(int port);
 
+    /**
+     * @return the resolved host and mapped ports of the running service, which are reused until the service is
+     *         restarted. By default, a new endpoint that resolves these using the service is returned every time.
+     */
+    default ServiceEndpoint getEndpoint() {
+        return new ServiceEndpoint(this::getHost, this::getFirstMappedPort, this::getMappedPort);
+    }
+
     @Override
     void close();
 
@@ -54,8 +78,50 @@ public interface Service extends ExtensionContext.Store.CloseableResource {
 
     boolean isAutoStart();
 
+    default StartPolicy getStartPolicy() {
+        return isAutoStart() ? StartPolicy.AUTO : StartPolicy.MANUAL;
+    }
+
     Service withProperty(String key, String value);
 
+    /**
+     * The service will be started after the services with the given names, and stopped before them.
+     */
+    default Service dependsOn(String... serviceNames) {
+        throw new UnsupportedOperationException("Service " + getName() + " does not support dependencies");
+    }
+
+    /**
+     * @return the names of the services this service depends on.
+     */
+    default List<String> getDependencies() {
+        return List.of();
+    }
+
+    /**
+     * @return the readiness probes to check whether the service is started, in addition to the service own checks.
+     */
+    default List<ReadinessProbe> getReadinessProbes() {
+        return List.of();
+    }
+
+    /**
+     * @return whether the service can reuse the resource of a service that was initialized by another test class. It
+     *         must be false when the service configuration can't be compared between test classes.
+     */
+    default boolean supportsSharing() {
+        return false;
+    }
+
+    /**
+     * Reuse the resource of a service with the same configuration that was initialized by another test class. The
+     * resource keeps the context of the test class that initialized it, so the logs and files of the service are
+     * written into the folder of that test class.
+     */
+    default void attachTo(Service sharedService) {
+        throw new UnsupportedOperationException("Service " + getName() + " can't be shared");
+    }
+
     default LogsVerifier logs() {
         return new LogsVerifier(this);
     }
@@ -26,6 +26,13 @@ public @interface ServiceConfiguration {
      */
     String startupCheckPollInterval() default "";
 
+    /**
+     * Readiness probes to check whether the service is started, in addition to the service own checks. Possible values
+     * are: "tcp", "http:<path>" and "log:<regex>". Fallback service property: "ts.services.<SERVICE
+     * NAME>.readiness.probes" as a comma separated list.
+     */
+    String[] readinessProbes() default {};
+
     /**
      * Default timeout factor for all checks. Fallback service property: "ts.services.<SERVICE NAME>.factor.timeout".
      */
@@ -48,6 +55,12 @@ public @interface ServiceConfiguration {
      */
     String logLevel() default "INFO";
 
+    /**
+     * Max number of log lines to keep in memory for the current service. The older lines are moved into a file within
+     * the service folder. Fallback service property: "ts.services.<SERVICE NAME>.log.max-lines-in-memory".
+     */
+    int logMaxLinesInMemory() default 100000;
+
     /**
      * Port resolution with range min. Fallback service property: "ts.services.<SERVICE NAME>.port.range.min".
      */
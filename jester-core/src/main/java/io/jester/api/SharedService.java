@@ -0,0 +1,18 @@
+package io.jester.api;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated service will be reused by all the test classes that declare an identical service (same name,
+ * annotations and properties), and it will be closed once all the tests have finished.
+ */
+@Target(FIELD)
+@Retention(RUNTIME)
+@Documented
+public @interface SharedService {
+}
@@ -0,0 +1,16 @@
+package io.jester.api;
+
+public enum StartPolicy {
+    /**
+     * The service is started before running the tests.
+     */
+    AUTO,
+    /**
+     * The service needs to be started by the tests using `service.start()`.
+     */
+    MANUAL,
+    /**
+     * The service is started the first time its host, ports or logs are used.
+     */
+    LAZY;
+}
@@ -3,28 +3,48 @@ package io.jester.api.clients;
 import static io.jester.utils.ManifestsUtils.LABEL_CONTEXT_ID;
 import static io.jester.utils.ManifestsUtils.LABEL_TO_WATCH_FOR_LOGS;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.StringUtils;
 
+import io.fabric8.kubernetes.api.model.ContainerStateWaiting;
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
 import io.fabric8.kubernetes.api.model.ServicePort;
+import io.fabric8.kubernetes.api.model.ServicePortBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentStatus;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.LocalPortForward;
 import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import io.jester.api.Service;
 import io.jester.logging.Log;
 import io.jester.utils.AwaitilityUtils;
@@ -34,23 +54,31 @@ import io.jester.utils.SocketUtils;
 
 public final class KubectlClient {
 
-    private static final int NAMESPACE_NAME_SIZE = 10;
-    private static final int NAMESPACE_CREATION_RETRIES = 5;
-
     private static final String KUBECTL = "kubectl";
+    private static final String FIELD_MANAGER = "jester";
     private static final int HTTP_PORT_DEFAULT = 80;
     private static final String PORT_FORWARD_HOST = "localhost";
+    private static final Duration SHORT_WAIT_INITIAL_INTERVAL = Duration.ofMillis(50);
+    private static final Duration SHORT_WAIT_MAX_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration SCALE_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration RELEASE_NAMESPACE_TIMEOUT = Duration.ofMinutes(2);
+    private static final Set<String> CONTAINER_FAILURE_REASONS = Set.of("CrashLoopBackOff", "ImagePullBackOff",
+            "ErrImagePull", "InvalidImageName", "CreateContainerConfigError", "CreateContainerError",
+            "RunContainerError");
 
     private final String currentNamespace;
     private final DefaultKubernetesClient masterClient;
     private final NamespacedKubernetesClient client;
-    private final Map<String, KeyValueEntry<Service, LocalPortForwardWrapper>> portForwardsByService = new HashMap<>();
+    private final ResourcesCache cache;
+    private final Map<String, KeyValueEntry<Service, LocalPortForwardWrapper>> portForwardsByService // "<name>-<port>"
+            = new ConcurrentHashMap<>();
 
     private KubectlClient(String namespace) {
         currentNamespace = namespace;
         Config config = new ConfigBuilder().withTrustCerts(true).withNamespace(currentNamespace).build();
         masterClient = new DefaultKubernetesClient(config);
         client = masterClient.inNamespace(currentNamespace);
+        cache = new ResourcesCache(client);
     }
 
     /**
@@ -74,7 +102,8 @@ public final class KubectlClient {
      */
     public void apply(Path file) {
         try {
-            new Command(KUBECTL, "apply", "-f", file.toAbsolutePath().toString(), "-n", currentNamespace).runAndWait();
+            runWithFallback(() -> serverSideApply(file), "apply", "-f", file.toAbsolutePath().toString(), "-n",
+                    currentNamespace);
         } catch (Exception e) {
             throw new RuntimeException("Failed to apply resource " + file.toAbsolutePath(), e);
         }
@@ -87,7 +116,11 @@ public final class KubectlClient {
      */
     public void delete(Path file) {
         try {
-            new Command(KUBECTL, "delete", "-f", file.toAbsolutePath().toString(), "-n", currentNamespace).runAndWait();
+            runWithFallback(() -> {
+                try (InputStream is = Files.newInputStream(file)) {
+                    return client.load(is).inNamespace(currentNamespace).delete();
+                }
+            }, "delete", "-f", file.toAbsolutePath().toString(), "-n", currentNamespace);
         } catch (Exception e) {
             throw new RuntimeException("Failed to apply resource " + file.toAbsolutePath(), e);
         }
@@ -101,9 +134,9 @@ public final class KubectlClient {
      */
     public void expose(Service service, int... ports) {
         try {
-            new Command(KUBECTL, "expose", "deployment", service.getName(),
+            runWithFallback(() -> exposeDeployment(service.getName(), ports), "expose", "deployment", service.getName(),
                     "--port=" + IntStream.of(ports).mapToObj(Integer::toString).collect(Collectors.joining(",")),
-                    "--name=" + service.getName(), "-n", currentNamespace).runAndWait();
+                    "--name=" + service.getName(), "-n", currentNamespace);
         } catch (Exception e) {
             throw new RuntimeException("Service failed to be exposed.", e);
         }
@@ -117,13 +150,17 @@ public final class KubectlClient {
      */
     public void scaleTo(Service service, int replicas) {
         try {
-            new Command(KUBECTL, "scale", "deployment/" + service.getName(), "--replicas=" + replicas, "-n",
-                    currentNamespace).runAndWait();
+            runWithFallback(() -> client.apps().deployments().withName(service.getName()).scale(replicas), "scale",
+                    "deployment/" + service.getName(), "--replicas=" + replicas, "-n", currentNamespace);
 
-            AwaitilityUtils.untilIsTrue(
-                    () -> client.apps().deployments().withName(service.getName()).get().getSpec()
-                            .getReplicas() == replicas,
-                    AwaitilityUtils.AwaitilitySettings.defaults().withService(service));
+            Duration timeout = Duration
+                    .ofMillis(Math.round(SCALE_TIMEOUT.toMillis() * service.getConfiguration().getFactorTimeout()));
+            if (!cache.await(() -> hasReplicas(service, replicas), timeout)) {
+                throw new RuntimeException("Deployment was not scaled to " + replicas + " replicas in " + timeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Service failed to be scaled.", e);
         } catch (Exception e) {
             throw new RuntimeException("Service failed to be scaled.", e);
         }
@@ -133,7 +170,74 @@ public final class KubectlClient {
      * Get the running pods in the current service.
      */
     public List<Pod> podsInService(Service service) {
-        return client.pods().withLabel(LABEL_TO_WATCH_FOR_LOGS, service.getName()).list().getItems();
+        return cache.podsByLabel(LABEL_TO_WATCH_FOR_LOGS, service.getName());
+    }
+
+    /**
+     * @return whether all the replicas of the service deployment are updated and available, which means that the
+     *         containers passed their readiness probes.
+     */
+    public boolean isDeploymentReady(Service service) {
+        Deployment deployment = cache.deployment(service.getName());
+        if (deployment == null || deployment.getSpec() == null || deployment.getStatus() == null) {
+            return false;
+        }
+
+        int replicas = Optional.ofNullable(deployment.getSpec().getReplicas()).orElse(1);
+        DeploymentStatus status = deployment.getStatus();
+        long generation = Optional.ofNullable(deployment.getMetadata().getGeneration()).orElse(0L);
+        return replicas > 0 && Optional.ofNullable(status.getObservedGeneration()).orElse(0L) >= generation
+                && Optional.ofNullable(status.getUpdatedReplicas()).orElse(0) >= replicas
+                && Optional.ofNullable(status.getAvailableReplicas()).orElse(0) >= replicas
+                && Optional.ofNullable(status.getReplicas()).orElse(0) == replicas;
+    }
+
+    /**
+     * @return the reason why a container of the service can't start, for example: "CrashLoopBackOff" or
+     *         "ImagePullBackOff".
+     */
+    public Optional<String> getDeploymentFailure(Service service) {
+        for (Pod pod : podsInService(service)) {
+            if (pod.getMetadata().getDeletionTimestamp() != null || pod.getStatus() == null
+                    || pod.getStatus().getContainerStatuses() == null) {
+                continue;
+            }
+
+            for (ContainerStatus container : pod.getStatus().getContainerStatuses()) {
+                ContainerStateWaiting waiting = container.getState() != null ? container.getState().getWaiting() : null;
+                if (waiting != null && CONTAINER_FAILURE_REASONS.contains(waiting.getReason())) {
+                    return Optional.of(String.format("Container '%s' of pod '%s' is in %s after %s restarts: %s",
+                            container.getName(), pod.getMetadata().getName(), waiting.getReason(),
+                            container.getRestartCount(), waiting.getMessage()));
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * @return the number of changes of the pods, services, deployments and endpoints of the namespace received so far.
+     */
+    public long getResourceChanges() {
+        return cache.changes();
+    }
+
+    /**
+     * Wait until the condition is true. The condition is checked every time a pod, service, deployment or endpoint of
+     * the namespace changes, or {@link #signalChange()} is called.
+     *
+     * @return whether the condition was satisfied before the timeout.
+     */
+    public boolean awaitCondition(BooleanSupplier condition, Duration timeout) throws InterruptedException {
+        return cache.await(condition, timeout);
+    }
+
+    /**
+     * Check the conditions of {@link #awaitCondition} now, for example, when new logs are received.
+     */
+    public void signalChange() {
+        cache.wakeUp();
     }
 
     /**
@@ -175,6 +279,22 @@ public final class KubectlClient {
         return logs;
     }
 
+    /**
+     * Follow the logs of all the running pods within one service, including the pods that are created later on. Only
+     * the new log lines are transferred.
+     *
+     * @param service
+     * @param onLine
+     *            consumer of the pod name and the log line.
+     *
+     * @return the resource to close to stop following the logs.
+     */
+    public Closeable followLogs(Service service, BiConsumer<String, String> onLine) {
+        PodLogsFollower follower = new PodLogsFollower(client, service, onLine);
+        follower.start();
+        return follower;
+    }
+
     /**
      * Resolve the url by the service.
      *
@@ -184,7 +304,7 @@ public final class KubectlClient {
      */
     public String host(Service service) {
         String serviceName = service.getName();
-        io.fabric8.kubernetes.api.model.Service serviceModel = client.services().withName(serviceName).get();
+        io.fabric8.kubernetes.api.model.Service serviceModel = cache.service(serviceName);
         if (serviceModel == null || serviceModel.getStatus() == null
                 || serviceModel.getStatus().getLoadBalancer() == null
                 || serviceModel.getStatus().getLoadBalancer().getIngress() == null) {
@@ -214,7 +334,7 @@ public final class KubectlClient {
      */
     public int port(Service service, int port) {
         String serviceName = service.getName();
-        io.fabric8.kubernetes.api.model.Service serviceModel = client.services().withName(serviceName).get();
+        io.fabric8.kubernetes.api.model.Service serviceModel = cache.service(serviceName);
         if (serviceModel == null || serviceModel.getSpec() == null || serviceModel.getSpec().getPorts() == null) {
             throw new RuntimeException("Service " + serviceName + " not found");
         }
@@ -241,32 +361,65 @@ public final class KubectlClient {
                 .orElse(HTTP_PORT_DEFAULT);
     }
 
+    /**
+     * @return whether any port forward of the service needs to be recreated because its pods have changed or it was
+     *         closed.
+     */
+    public boolean isPortForwardStale(Service service) {
+        return portForwardsByService.values().stream()
+                .filter(portForward -> service.getName().equals(portForward.getKey().getName()))
+                .anyMatch(portForward -> portForward.getValue().needsToRecreate());
+    }
+
     /**
      * @return events of the namespace.
      */
     public String getEvents() {
         List<String> output = new ArrayList<>();
         try {
-            new Command(KUBECTL, "get", "events", "-n", currentNamespace).outputToLines(output).runAndWait();
+            client.v1().events().list().getItems().stream().map(KubectlClient::formatEvent).forEach(output::add);
         } catch (Exception ex) {
-            Log.warn("Failed to get namespace events", ex);
+            Log.warn("Failed to get namespace events using the Kubernetes client, falling back to kubectl", ex);
+            output.clear();
+            try {
+                new Command(KUBECTL, "get", "events", "-n", currentNamespace).outputToLines(output).runAndWait();
+            } catch (Exception kubectlEx) {
+                Log.warn("Failed to get namespace events", kubectlEx);
+            }
         }
 
         return output.stream().collect(Collectors.joining(System.lineSeparator()));
     }
 
     /**
-     * Delete the namespace and all the resources.
+     * Delete the namespace in background, so the next tests don't need to wait for its resources to be deleted.
      */
-    public void deleteNamespace() {
+    public void deleteNamespaceInBackground() {
         portForwardsByService.values().forEach(this::closePortForward);
-        try {
-            new Command(KUBECTL, "delete", "namespace", currentNamespace).runAndWait();
-        } catch (Exception e) {
-            throw new RuntimeException("Project failed to be deleted.", e);
-        } finally {
-            masterClient.close();
-        }
+        cache.close();
+        masterClient.close();
+        NamespacePool.delete(currentNamespace);
+    }
+
+    /**
+     * Delete the resources within the test in background, and then return the namespace to the pool, so it can be used
+     * by the next tests.
+     */
+    public void releaseNamespace(String contextId) {
+        portForwardsByService.values().forEach(this::closePortForward);
+        cache.close();
+        NamespacePool.release(currentNamespace, namespace -> {
+            try {
+                deleteAllByLabel(LABEL_CONTEXT_ID, contextId);
+                AwaitilityUtils.untilIsTrue(
+                        () -> client.pods().withLabel(LABEL_CONTEXT_ID, contextId).list().getItems().isEmpty()
+                                && client.services().withLabel(LABEL_CONTEXT_ID, contextId).list().getItems().isEmpty(),
+                        AwaitilityUtils.AwaitilitySettings.usingTimeout(RELEASE_NAMESPACE_TIMEOUT)
+                                .withExponentialBackoff(SHORT_WAIT_MAX_INTERVAL));
+            } finally {
+                masterClient.close();
+            }
+        });
     }
 
     /**
@@ -292,14 +445,103 @@ public final class KubectlClient {
     public void deleteResourcesByLabel(String labelName, String labelValue) {
         try {
             String label = String.format("%s=%s", labelName, labelValue);
-            new Command(KUBECTL, "delete", "-n", currentNamespace, "all", "-l", label).runAndWait();
+            runWithFallback(() -> deleteAllByLabel(labelName, labelValue), "delete", "-n", currentNamespace, "all",
+                    "-l", label);
         } catch (Exception e) {
             throw new RuntimeException("Resources failed to be deleted.", e);
         } finally {
+            cache.close();
             masterClient.close();
         }
     }
 
+    /**
+     * Run the operation using the Kubernetes client, and only when the client can't reach the API server, run kubectl
+     * instead. The errors returned by the API server are propagated as these are.
+     */
+    private void runWithFallback(Callable<?> operation, String... kubectlArgs) throws Exception {
+        try {
+            operation.call();
+        } catch (Exception ex) {
+            if (!isClientFailure(ex)) {
+                throw ex;
+            }
+
+            Log.warn("Kubernetes client failed to run 'kubectl %s', falling back to kubectl. Caused by: %s",
+                    String.join(" ", kubectlArgs), ex.getMessage());
+            List<String> command = new ArrayList<>();
+            command.add(KUBECTL);
+            command.addAll(Arrays.asList(kubectlArgs));
+            new Command(command).runAndWait();
+        }
+    }
+
+    /**
+     * @return whether the operation failed before getting a response from the API server, for example, because of a
+     *         connection error.
+     */
+    static boolean isClientFailure(Exception ex) {
+        if (ex instanceof KubernetesClientException) {
+            return ((KubernetesClientException) ex).getCode() == 0;
+        }
+
+        return ex instanceof IOException || ex.getCause() instanceof IOException;
+    }
+
+    private List<HasMetadata> serverSideApply(Path file) throws IOException {
+        List<HasMetadata> items;
+        try (InputStream is = Files.newInputStream(file)) {
+            items = client.load(is).inNamespace(currentNamespace).get();
+        }
+
+        PatchContext context = PatchContext.of(PatchType.SERVER_SIDE_APPLY);
+        context.setFieldManager(FIELD_MANAGER);
+        context.setForce(true);
+        List<HasMetadata> applied = new ArrayList<>();
+        for (HasMetadata item : items) {
+            applied.add(client.resource(item).inNamespace(currentNamespace).patch(context, Serialization.asJson(item)));
+        }
+
+        return applied;
+    }
+
+    private io.fabric8.kubernetes.api.model.Service exposeDeployment(String name, int... ports) {
+        Deployment deployment = client.apps().deployments().withName(name).require();
+        List<ServicePort> servicePorts = new ArrayList<>();
+        for (int index = 0; index < ports.length; index++) {
+            servicePorts.add(new ServicePortBuilder().withName(ports.length > 1 ? "port-" + (index + 1) : null)
+                    .withPort(ports[index]).withNewTargetPort(ports[index]).build());
+        }
+
+        return client.services()
+                .createOrReplace(new ServiceBuilder().withNewMetadata().withName(name)
+                        .withLabels(deployment.getMetadata().getLabels()).endMetadata().withNewSpec()
+                        .withSelector(deployment.getSpec().getSelector().getMatchLabels()).withPorts(servicePorts)
+                        .endSpec().build());
+    }
+
+    /**
+     * Delete the same resource kinds as `kubectl delete all`.
+     */
+    private boolean deleteAllByLabel(String labelName, String labelValue) {
+        client.apps().deployments().withLabel(labelName, labelValue).delete();
+        client.apps().statefulSets().withLabel(labelName, labelValue).delete();
+        client.apps().daemonSets().withLabel(labelName, labelValue).delete();
+        client.apps().replicaSets().withLabel(labelName, labelValue).delete();
+        client.replicationControllers().withLabel(labelName, labelValue).delete();
+        client.batch().v1().cronjobs().withLabel(labelName, labelValue).delete();
+        client.batch().v1().jobs().withLabel(labelName, labelValue).delete();
+        client.autoscaling().v1().horizontalPodAutoscalers().withLabel(labelName, labelValue).delete();
+        client.services().withLabel(labelName, labelValue).delete();
+        client.pods().withLabel(labelName, labelValue).delete();
+        return true;
+    }
+
+    private boolean hasReplicas(Service service, int replicas) {
+        Deployment deployment = cache.deployment(service.getName());
+        return deployment != null && deployment.getSpec().getReplicas() == replicas;
+    }
+
     private boolean isPodRunning(Pod pod) {
         return pod.getStatus().getPhase().equals("Running");
     }
@@ -310,10 +552,13 @@ public final class KubectlClient {
             Log.trace(portForward.getKey(), "Closing port forward using local port " + localPort);
             try {
                 portForward.getValue().process.close();
-                AwaitilityUtils.untilIsFalse(portForward.getValue().process::isAlive);
+                AwaitilityUtils.untilIsFalse(portForward.getValue().process::isAlive, AwaitilityUtils.AwaitilitySettings
+                        .usingExponentialBackoff(SHORT_WAIT_INITIAL_INTERVAL, SHORT_WAIT_MAX_INTERVAL));
             } catch (IOException ex) {
                 Log.warn("Failed to close port forward " + localPort, ex);
             }
+
+            SocketUtils.releasePort(localPort);
         }
     }
 
@@ -329,45 +574,22 @@ public final class KubectlClient {
         return new KubectlClient(new DefaultKubernetesClient().getNamespace());
     }
 
-    public static KubectlClient createClientUsingANewNamespace() {
-        boolean namespaceCreated = false;
-
-        String namespace = generateRandomNamespaceName();
-        int index = 0;
-        while (index < NAMESPACE_CREATION_RETRIES) {
-            if (doCreateNamespace(namespace)) {
-                namespaceCreated = true;
-                break;
-            }
-
-            namespace = generateRandomNamespaceName();
-            index++;
-        }
-
-        if (!namespaceCreated) {
-            throw new RuntimeException("Namespace cannot be created. Review your Kubernetes installation.");
-        }
-
-        return new KubectlClient(namespace);
-    }
-
-    private static boolean doCreateNamespace(String namespaceName) {
-        boolean created = false;
-        try {
-            new Command(KUBECTL, "create", "namespace", namespaceName).runAndWait();
-            created = true;
-        } catch (Exception e) {
-            Log.warn("Namespace " + namespaceName + " failed to be created. Caused by: " + e.getMessage()
-                    + ". Trying again.");
-        }
-
-        return created;
+    /**
+     * Use a namespace that was created in background, and create the next ones in background too.
+     *
+     * @param poolSize
+     *            number of namespaces to keep ready in the pool.
+     */
+    public static KubectlClient createClientUsingPooledNamespace(int poolSize) {
+        return new KubectlClient(NamespacePool.acquire(poolSize));
     }
 
-    private static String generateRandomNamespaceName() {
-        return ThreadLocalRandom.current().ints(NAMESPACE_NAME_SIZE, 'a', 'z' + 1)
-                .collect(() -> new StringBuilder("ts-"), StringBuilder::appendCodePoint, StringBuilder::append)
-                .toString();
+    private static String formatEvent(Event event) {
+        return String.format("%s %s %s %s/%s %s",
+                StringUtils.defaultIfBlank(event.getLastTimestamp(),
+                        event.getEventTime() == null ? StringUtils.EMPTY : event.getEventTime().getTime()),
+                event.getType(), event.getReason(), event.getInvolvedObject().getKind(),
+                event.getInvolvedObject().getName(), event.getMessage());
     }
 
     class LocalPortForwardWrapper {
@@ -0,0 +1,218 @@
+package io.jester.api.clients;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.jester.logging.Log;
+import io.jester.utils.Command;
+
+/**
+ * Ephemeral namespaces that are created in background before the test classes need them, and deleted in background
+ * after the test classes are finished. The namespaces that are still in the pool when all the tests have been executed
+ * are deleted by {@link #shutdown()}.
+ */
+public final class NamespacePool {
+
+    private static final int NAMESPACE_NAME_SIZE = 10;
+    private static final int NAMESPACE_CREATION_RETRIES = 5;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+    private static final String KUBECTL = "kubectl";
+
+    private static final Deque<CompletableFuture<String>> NAMESPACES = new ConcurrentLinkedDeque<>();
+    private static final Set<CompletableFuture<?>> PENDING_DELETIONS = ConcurrentHashMap.newKeySet();
+
+    private static ExecutorService reaper;
+
+    private NamespacePool() {
+
+    }
+
+    /**
+     * Delete all the namespaces that are in the pool and wait for the pending deletions.
+     */
+    public static void shutdown() {
+        CompletableFuture<String> namespace;
+        while ((namespace = NAMESPACES.poll()) != null) {
+            trackDeletion(namespace.thenAccept(NamespacePool::deleteNamespace));
+        }
+
+        List<CompletableFuture<?>> deletions = new ArrayList<>(PENDING_DELETIONS);
+        if (!deletions.isEmpty()) {
+            Log.debug("Waiting for %s namespaces to be deleted", deletions.size());
+            try {
+                CompletableFuture.allOf(deletions.toArray(CompletableFuture[]::new)).get(SHUTDOWN_TIMEOUT_SECONDS,
+                        TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (Exception ex) {
+                Log.warn("Some namespaces might not have been deleted. Caused by: " + ex.getMessage());
+            }
+        }
+
+        synchronized (NamespacePool.class) {
+            if (reaper != null) {
+                reaper.shutdownNow();
+                reaper = null;
+            }
+        }
+    }
+
+    /**
+     * @return a namespace from the pool, or a new one if the pool is empty. The pool is filled up to the given size in
+     *         background. The namespaces that are ready are used first, and the callers only wait for their own
+     *         namespace, so concurrent test classes don't block each other.
+     */
+    static String acquire(int poolSize) {
+        while (true) {
+            CompletableFuture<String> next;
+            synchronized (NamespacePool.class) {
+                next = pollPreferringReady();
+                while (NAMESPACES.size() < poolSize) {
+                    NAMESPACES.add(CompletableFuture.supplyAsync(NamespacePool::create, reaper()));
+                }
+            }
+
+            if (next == null) {
+                return create();
+            }
+
+            try {
+                return next.join();
+            } catch (CompletionException ex) {
+                Log.warn("Pooled namespace is not available. Caused by: " + ex.getCause().getMessage());
+            }
+        }
+    }
+
+    /**
+     * Create a new namespace.
+     */
+    static String create() {
+        for (int index = 0; index < NAMESPACE_CREATION_RETRIES; index++) {
+            String namespace = generateRandomNamespaceName();
+            if (doCreateNamespace(namespace)) {
+                return namespace;
+            }
+        }
+
+        throw new RuntimeException("Namespace cannot be created. Review your Kubernetes installation.");
+    }
+
+    /**
+     * Clean up the namespace in background, so it can be acquired again.
+     */
+    static void release(String namespace, Consumer<String> cleanUp) {
+        NAMESPACES.add(CompletableFuture.supplyAsync(() -> {
+            try {
+                cleanUp.accept(namespace);
+                return namespace;
+            } catch (RuntimeException ex) {
+                deleteNamespace(namespace);
+                throw ex;
+            }
+        }, reaper()));
+    }
+
+    /**
+     * Delete the namespace in background.
+     */
+    static void delete(String namespace) {
+        trackDeletion(CompletableFuture.runAsync(() -> deleteNamespace(namespace), reaper()));
+    }
+
+    private static CompletableFuture<String> pollPreferringReady() {
+        for (CompletableFuture<String> namespace : NAMESPACES) {
+            if (namespace.isDone() && !namespace.isCompletedExceptionally() && NAMESPACES.remove(namespace)) {
+                return namespace;
+            }
+        }
+
+        return NAMESPACES.poll();
+    }
+
+    private static void trackDeletion(CompletableFuture<?> deletion) {
+        PENDING_DELETIONS.add(deletion);
+        deletion.whenComplete((ignored, ex) -> PENDING_DELETIONS.remove(deletion));
+    }
+
+    private static void deleteNamespace(String namespace) {
+        try (DefaultKubernetesClient client = new DefaultKubernetesClient()) {
+            client.namespaces().withName(namespace).delete();
+            return;
+        } catch (Exception ex) {
+            if (!KubectlClient.isClientFailure(ex)) {
+                Log.warn("Namespace " + namespace + " failed to be deleted. Caused by: " + ex.getMessage());
+                return;
+            }
+
+            Log.warn("Kubernetes client failed to delete namespace %s, falling back to kubectl. Caused by: %s",
+                    namespace, ex.getMessage());
+        }
+
+        try {
+            new Command(KUBECTL, "delete", "namespace", namespace, "--wait=false").runAndWait();
+        } catch (Exception ex) {
+            Log.warn("Namespace " + namespace + " failed to be deleted. Caused by: " + ex.getMessage());
+        }
+    }
+
+    private static boolean doCreateNamespace(String namespaceName) {
+        try (DefaultKubernetesClient client = new DefaultKubernetesClient()) {
+            client.namespaces()
+                    .create(new NamespaceBuilder().withNewMetadata().withName(namespaceName).endMetadata().build());
+            return true;
+        } catch (Exception ex) {
+            if (!KubectlClient.isClientFailure(ex)) {
+                Log.warn("Namespace " + namespaceName + " failed to be created. Caused by: " + ex.getMessage()
+                        + ". Trying again.");
+                return false;
+            }
+
+            Log.warn("Kubernetes client failed to create namespace %s, falling back to kubectl. Caused by: %s",
+                    namespaceName, ex.getMessage());
+        }
+
+        try {
+            new Command(KUBECTL, "create", "namespace", namespaceName).runAndWait();
+            return true;
+        } catch (Exception e) {
+            Log.warn("Namespace " + namespaceName + " failed to be created. Caused by: " + e.getMessage()
+                    + ". Trying again.");
+        }
+
+        return false;
+    }
+
+    private static String generateRandomNamespaceName() {
+        return ThreadLocalRandom.current().ints(NAMESPACE_NAME_SIZE, 'a', 'z' + 1)
+                .collect(() -> new StringBuilder("ts-"), StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString();
+    }
+
+    private static synchronized ExecutorService reaper() {
+        if (reaper == null) {
+            AtomicInteger counter = new AtomicInteger();
+            reaper = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "jester-namespaces-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return reaper;
+    }
+}
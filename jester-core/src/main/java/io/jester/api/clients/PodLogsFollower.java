@@ -0,0 +1,135 @@
+package io.jester.api.clients;
+
+import static io.jester.utils.ManifestsUtils.LABEL_TO_WATCH_FOR_LOGS;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.jester.api.Service;
+import io.jester.logging.Log;
+import io.jester.utils.IoScheduler;
+
+/**
+ * Stream the logs of the running pods of a service using one long-lived connection per pod. The pods that are created
+ * later on are followed as soon as they are running.
+ */
+final class PodLogsFollower implements Watcher<Pod>, Closeable {
+
+    private static final String RUNNING = "Running";
+
+    private final NamespacedKubernetesClient client;
+    private final Service service;
+    private final BiConsumer<String, String> onLine;
+    private final Map<String, LogWatch> logWatchesByPod = new ConcurrentHashMap<>();
+    private final Map<String, Instant> lastStreamEndByPod = new ConcurrentHashMap<>();
+
+    private volatile Watch watch;
+    private volatile boolean closed;
+
+    PodLogsFollower(NamespacedKubernetesClient client, Service service, BiConsumer<String, String> onLine) {
+        this.client = client;
+        this.service = service;
+        this.onLine = onLine;
+    }
+
+    void start() {
+        client.pods().withLabel(LABEL_TO_WATCH_FOR_LOGS, service.getName()).list().getItems().forEach(this::follow);
+        watch = client.pods().withLabel(LABEL_TO_WATCH_FOR_LOGS, service.getName()).watch(this);
+    }
+
+    @Override
+    public void eventReceived(Action action, Pod pod) {
+        if (action == Action.DELETED) {
+            String podName = pod.getMetadata().getName();
+            lastStreamEndByPod.remove(podName);
+            closeQuietly(logWatchesByPod.remove(podName));
+        } else {
+            follow(pod);
+        }
+    }
+
+    @Override
+    public void onClose(WatcherException cause) {
+        if (!closed) {
+            Log.debug(service, "Pods watch was closed, so starting it again. Caused by " + cause.getMessage());
+            watch = client.pods().withLabel(LABEL_TO_WATCH_FOR_LOGS, service.getName()).watch(this);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (watch != null) {
+            watch.close();
+        }
+
+        new ArrayList<>(logWatchesByPod.values()).forEach(this::closeQuietly);
+        logWatchesByPod.clear();
+    }
+
+    private void follow(Pod pod) {
+        String podName = pod.getMetadata().getName();
+        if (closed || pod.getStatus() == null || !RUNNING.equals(pod.getStatus().getPhase())
+                || logWatchesByPod.containsKey(podName)) {
+            return;
+        }
+
+        try {
+            PodResource resource = client.pods().withName(podName);
+            // when the container was restarted, only the new logs are streamed
+            Instant lastStreamEnd = lastStreamEndByPod.get(podName);
+            LogWatch logWatch = lastStreamEnd == null ? resource.watchLog()
+                    : resource.sinceTime(DateTimeFormatter.ISO_INSTANT.format(lastStreamEnd)).watchLog();
+            if (logWatchesByPod.putIfAbsent(podName, logWatch) != null) {
+                logWatch.close();
+                return;
+            }
+
+            IoScheduler.execute(() -> read(podName, logWatch));
+        } catch (Exception ex) {
+            // the pod contains multiple container, and we don't support this use case yet, ignoring exception.
+            Log.debug(service, "Could not follow the logs of pod " + podName + ". Caused by " + ex.getMessage());
+        }
+    }
+
+    private void read(String podName, LogWatch logWatch) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(logWatch.getOutput(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                onLine.accept(podName, line);
+            }
+        } catch (Exception ignored) {
+            // the stream was closed.
+        } finally {
+            lastStreamEndByPod.put(podName, Instant.now());
+            logWatchesByPod.remove(podName, logWatch);
+            closeQuietly(logWatch);
+        }
+    }
+
+    private void closeQuietly(LogWatch logWatch) {
+        if (logWatch != null) {
+            try {
+                logWatch.close();
+            } catch (Exception ignored) {
+                // already closed.
+            }
+        }
+    }
+}
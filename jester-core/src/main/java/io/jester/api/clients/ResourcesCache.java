@@ -0,0 +1,178 @@
+package io.jester.api.clients;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.Endpoints;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
+import io.jester.logging.Log;
+
+/**
+ * Local cache of the pods, services, deployments and endpoints of the namespace, which is kept up to date by shared
+ * informers. The informers are only started on the first read, and if they cannot be started (for example, because the
+ * user is not allowed to watch resources), the reads go directly to the API server.
+ */
+final class ResourcesCache implements ResourceEventHandler<HasMetadata>, Closeable {
+
+    private static final long MAX_WAIT_MILLIS = 1000;
+
+    private final NamespacedKubernetesClient client;
+    private final Object changesMonitor = new Object();
+    private final List<SharedIndexInformer<?>> informers = new ArrayList<>();
+
+    private Lister<Pod> pods;
+    private Lister<Service> services;
+    private Lister<Deployment> deployments;
+    private Lister<Endpoints> endpoints;
+    private boolean started;
+    private volatile boolean available;
+    private volatile long changes;
+
+    ResourcesCache(NamespacedKubernetesClient client) {
+        this.client = client;
+    }
+
+    List<Pod> podsByLabel(String labelName, String labelValue) {
+        if (!start()) {
+            return client.pods().withLabel(labelName, labelValue).list().getItems();
+        }
+
+        return pods.list().stream().filter(pod -> hasLabel(pod, labelName, labelValue)).collect(Collectors.toList());
+    }
+
+    Service service(String name) {
+        if (!start()) {
+            return client.services().withName(name).get();
+        }
+
+        return services.get(name);
+    }
+
+    Deployment deployment(String name) {
+        if (!start()) {
+            return client.apps().deployments().withName(name).get();
+        }
+
+        return deployments.get(name);
+    }
+
+    Endpoints endpoints(String name) {
+        if (!start()) {
+            return client.endpoints().withName(name).get();
+        }
+
+        return endpoints.get(name);
+    }
+
+    /**
+     * @return the number of changes that have been received so far. It only grows while the informers are running.
+     */
+    long changes() {
+        return changes;
+    }
+
+    /**
+     * Wait until the condition is true. The condition is checked every time a resource changes or {@link #wakeUp()} is
+     * called, or every second when the informers are not running.
+     *
+     * @return whether the condition was satisfied before the timeout.
+     */
+    boolean await(BooleanSupplier condition, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (changesMonitor) {
+            while (!condition.getAsBoolean()) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return false;
+                }
+
+                changesMonitor.wait(Math.min(remainingMillis, MAX_WAIT_MILLIS));
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Check the conditions of the waiting threads now.
+     */
+    void wakeUp() {
+        synchronized (changesMonitor) {
+            changesMonitor.notifyAll();
+        }
+    }
+
+    @Override
+    public void onAdd(HasMetadata obj) {
+        onChange();
+    }
+
+    @Override
+    public void onUpdate(HasMetadata oldObj, HasMetadata newObj) {
+        onChange();
+    }
+
+    @Override
+    public void onDelete(HasMetadata obj, boolean deletedFinalStateUnknown) {
+        onChange();
+    }
+
+    @Override
+    public synchronized void close() {
+        available = false;
+        informers.forEach(SharedIndexInformer::stop);
+        informers.clear();
+    }
+
+    private synchronized boolean start() {
+        if (started) {
+            return available;
+        }
+
+        started = true;
+        try {
+            String namespace = client.getNamespace();
+            pods = new Lister<>(inform(client.pods().inform(this, 0)).getIndexer(), namespace);
+            services = new Lister<>(inform(client.services().inform(this, 0)).getIndexer(), namespace);
+            deployments = new Lister<>(inform(client.apps().deployments().inform(this, 0)).getIndexer(), namespace);
+            endpoints = new Lister<>(inform(client.endpoints().inform(this, 0)).getIndexer(), namespace);
+            available = true;
+        } catch (Exception ex) {
+            Log.warn("Resources can't be watched, so these will be requested to the API server every time. Caused by: "
+                    + ex.getMessage());
+            close();
+        }
+
+        return available;
+    }
+
+    private <T> SharedIndexInformer<T> inform(SharedIndexInformer<T> informer) {
+        informers.add(informer);
+        return informer;
+    }
+
+    private void onChange() {
+        synchronized (changesMonitor) {
+            changes++;
+            changesMonitor.notifyAll();
+        }
+    }
+
+    private static boolean hasLabel(HasMetadata resource, String labelName, String labelValue) {
+        Map<String, String> labels = resource.getMetadata().getLabels();
+        return labels != null && labelValue.equals(labels.get(labelName));
+    }
+}
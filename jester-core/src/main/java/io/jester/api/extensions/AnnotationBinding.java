@@ -1,6 +1,8 @@
 package io.jester.api.extensions;
 
 import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -10,11 +12,33 @@ import io.jester.core.JesterContext;
 import io.jester.core.ManagedResource;
 
 public interface AnnotationBinding {
-    boolean isFor(Annotation... annotations);
+
+    /**
+     * Return the annotation types handled by this binding. These are used to index the bindings, so the binding for an
+     * annotation is found without checking all the bindings.
+     */
+    default List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Bindings that don't declare the supported annotations need to overwrite this method.
+     */
+    default boolean isFor(Annotation... annotations) {
+        return Stream.of(annotations).anyMatch(a -> getSupportedAnnotations().contains(a.annotationType()));
+    }
 
     ManagedResource getManagedResource(JesterContext context, Service service, Annotation... annotations)
             throws Exception;
 
+    /**
+     * Pull the container images of the service before the test class runs. This is invoked in background while the
+     * previous test class is running, so it must not build nor start the service.
+     */
+    default void prefetchImages(Annotation... annotations) {
+
+    }
+
     default <T extends Annotation> Optional<T> findAnnotation(Annotation[] annotations, Class<T> clazz) {
         return Stream.of(annotations).filter(clazz::isInstance).map(a -> (T) a).findFirst();
     }
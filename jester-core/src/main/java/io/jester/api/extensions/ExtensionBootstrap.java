@@ -53,6 +53,13 @@ public interface ExtensionBootstrap {
 
     }
 
+    /**
+     * @return whether the services can be shared by several test classes.
+     */
+    default boolean supportsSharedServices() {
+        return true;
+    }
+
     default List<Class<?>> supportedParameters() {
         return Collections.emptyList();
     }
@@ -46,6 +46,13 @@ public abstract class BaseConfigurationBuilder<T extends Annotation, C> {
         return PropertiesUtils.getAsDuration(properties, propertyKey);
     }
 
+    /**
+     * Load a configuration that can't be set via annotations, for example, because it applies to all the test classes.
+     */
+    protected Optional<Boolean> loadBoolean(String propertyKey) {
+        return PropertiesUtils.getAsBoolean(properties, propertyKey);
+    }
+
     protected Optional<Boolean> loadBoolean(String propertyKey, Function<T, Boolean> annotationMapper) {
         // first annotation,
         if (annotationConfig.isPresent()) {
@@ -19,17 +19,23 @@ public final class ConfigurationLoader {
 
     public static <T extends Annotation, C> C load(String target, JesterContext context,
             BaseConfigurationBuilder<T, C> builder) {
-        Map<String, String> properties = new HashMap<>();
-        // Then, highest priority: properties from system properties and scope as service name
-        properties.putAll(loadPropertiesFromSystemProperties(target));
-
         // Load configuration from annotations
-        builder.with(target, context).withProperties(properties);
+        builder.with(target, context).withProperties(loadProperties(target));
 
         // Build service configuration mixing up configuration from properties and annotations
         return builder.build();
     }
 
+    /**
+     * @return the properties that configure the given target, without the `ts.<target>.` prefix.
+     */
+    public static Map<String, String> loadProperties(String target) {
+        Map<String, String> properties = new HashMap<>();
+        // Then, highest priority: properties from system properties and scope as service name
+        properties.putAll(loadPropertiesFromSystemProperties(target));
+        return properties;
+    }
+
     private static Map<String, String> loadPropertiesFromSystemProperties(String scope) {
         return loadPropertiesFrom(System.getProperties(), scope);
     }
@@ -1,8 +1,14 @@
 package io.jester.configuration;
 
+import java.time.Duration;
+
 public final class JesterConfiguration {
     private String target;
     private boolean profilingEnabled;
+    private boolean parallelServiceStartEnabled;
+    private int parallelServiceStartThreads = 4;
+    private Duration shutdownTimeout = Duration.ofMinutes(1);
+    private boolean imagePrefetchEnabled;
 
     public String getTarget() {
         return target;
@@ -19,4 +25,36 @@ public final class JesterConfiguration {
     public void setProfilingEnabled(boolean profilingEnabled) {
         this.profilingEnabled = profilingEnabled;
     }
+
+    public boolean isParallelServiceStartEnabled() {
+        return parallelServiceStartEnabled;
+    }
+
+    public void setParallelServiceStartEnabled(boolean parallelServiceStartEnabled) {
+        this.parallelServiceStartEnabled = parallelServiceStartEnabled;
+    }
+
+    public int getParallelServiceStartThreads() {
+        return parallelServiceStartThreads;
+    }
+
+    public void setParallelServiceStartThreads(int parallelServiceStartThreads) {
+        this.parallelServiceStartThreads = parallelServiceStartThreads;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    public boolean isImagePrefetchEnabled() {
+        return imagePrefetchEnabled;
+    }
+
+    public void setImagePrefetchEnabled(boolean imagePrefetchEnabled) {
+        this.imagePrefetchEnabled = imagePrefetchEnabled;
+    }
 }
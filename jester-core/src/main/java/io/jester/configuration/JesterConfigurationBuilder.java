@@ -9,12 +9,22 @@ public final class JesterConfigurationBuilder extends BaseConfigurationBuilder<J
 
     private static final String TARGET = "target";
     private static final String ENABLE_PROFILING = "enable.profiling";
+    private static final String PARALLEL_SERVICE_START = "parallel.service.start";
+    private static final String PARALLEL_SERVICE_START_THREADS = "parallel.service.start.threads";
+    private static final String SHUTDOWN_TIMEOUT = "shutdown.timeout";
+    private static final String IMAGE_PREFETCH = "image.prefetch";
 
     @Override
     public JesterConfiguration build() {
         JesterConfiguration config = new JesterConfiguration();
         loadString(TARGET, a -> a.target()).ifPresent(config::setTarget);
         loadBoolean(ENABLE_PROFILING, a -> a.enableProfiling()).ifPresent(config::setProfilingEnabled);
+        loadBoolean(PARALLEL_SERVICE_START, a -> a.parallelServiceStart())
+                .ifPresent(config::setParallelServiceStartEnabled);
+        loadInteger(PARALLEL_SERVICE_START_THREADS, a -> a.parallelServiceStartThreads()).filter(t -> t > 0)
+                .ifPresent(config::setParallelServiceStartThreads);
+        loadDuration(SHUTDOWN_TIMEOUT, a -> a.shutdownTimeout()).ifPresent(config::setShutdownTimeout);
+        loadBoolean(IMAGE_PREFETCH).ifPresent(config::setImagePrefetchEnabled);
         return config;
     }
 
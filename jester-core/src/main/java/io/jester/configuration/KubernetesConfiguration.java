@@ -4,6 +4,8 @@ public final class KubernetesConfiguration {
     private boolean printInfoOnError = true;
     private boolean deleteNamespaceAfterAll = true;
     private boolean ephemeralNamespaceEnabled = true;
+    private int ephemeralNamespacesPoolSize = 1;
+    private boolean reuseEphemeralNamespaces;
     private String[] additionalResources;
 
     public boolean isPrintInfoOnError() {
@@ -30,6 +32,22 @@ public final class KubernetesConfiguration {
         this.ephemeralNamespaceEnabled = ephemeralNamespaceEnabled;
     }
 
+    public int getEphemeralNamespacesPoolSize() {
+        return ephemeralNamespacesPoolSize;
+    }
+
+    public void setEphemeralNamespacesPoolSize(int ephemeralNamespacesPoolSize) {
+        this.ephemeralNamespacesPoolSize = ephemeralNamespacesPoolSize;
+    }
+
+    public boolean isReuseEphemeralNamespaces() {
+        return reuseEphemeralNamespaces;
+    }
+
+    public void setReuseEphemeralNamespaces(boolean reuseEphemeralNamespaces) {
+        this.reuseEphemeralNamespaces = reuseEphemeralNamespaces;
+    }
+
     public String[] getAdditionalResources() {
         return additionalResources;
     }
@@ -10,6 +10,8 @@ public final class KubernetesConfigurationBuilder
     private static final String PRINT_INFO_ON_ERROR = "print.info.on.error";
     private static final String DELETE_NAMESPACE_AFTER = "delete.namespace.after.all";
     private static final String EPHEMERAL_NAMESPACE_ENABLED = "ephemeral.namespaces.enabled";
+    private static final String EPHEMERAL_NAMESPACES_POOL_SIZE = "ephemeral.namespaces.pool-size";
+    private static final String REUSE_EPHEMERAL_NAMESPACES = "ephemeral.namespaces.reuse";
     private static final String ADDITIONAL_RESOURCES = "additional-resources";
 
     @Override
@@ -20,6 +22,10 @@ public final class KubernetesConfigurationBuilder
                 .ifPresent(config::setDeleteNamespaceAfterAll);
         loadBoolean(EPHEMERAL_NAMESPACE_ENABLED, a -> a.ephemeralNamespaceEnabled())
                 .ifPresent(config::setEphemeralNamespaceEnabled);
+        loadInteger(EPHEMERAL_NAMESPACES_POOL_SIZE, a -> a.ephemeralNamespacesPoolSize())
+                .ifPresent(config::setEphemeralNamespacesPoolSize);
+        loadBoolean(REUSE_EPHEMERAL_NAMESPACES, a -> a.reuseEphemeralNamespaces())
+                .ifPresent(config::setReuseEphemeralNamespaces);
         loadArrayOfStrings(ADDITIONAL_RESOURCES, a -> a.additionalResources())
                 .ifPresent(config::setAdditionalResources);
         return config;
@@ -4,6 +4,7 @@ public final class KubernetesServiceConfiguration {
     private String template;
     private boolean useInternalService = false;
     private int[] additionalPorts;
+    private boolean waitForExpectedLog = true;
 
     public String getTemplate() {
         return template;
@@ -28,4 +29,12 @@ public final class KubernetesServiceConfiguration {
     public void setAdditionalPorts(int[] additionalPorts) {
         this.additionalPorts = additionalPorts;
     }
+
+    public boolean isWaitForExpectedLog() {
+        return waitForExpectedLog;
+    }
+
+    public void setWaitForExpectedLog(boolean waitForExpectedLog) {
+        this.waitForExpectedLog = waitForExpectedLog;
+    }
 }
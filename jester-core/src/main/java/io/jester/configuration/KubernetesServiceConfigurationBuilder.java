@@ -10,6 +10,7 @@ public final class KubernetesServiceConfigurationBuilder
     private static final String DEPLOYMENT_TEMPLATE_PROPERTY = "kubernetes.template";
     private static final String USE_INTERNAL_SERVICE_PROPERTY = "kubernetes.use-internal-service";
     private static final String ADDITIONAL_PORTS_PROPERTY = "kubernetes.additional-ports";
+    private static final String WAIT_FOR_EXPECTED_LOG_PROPERTY = "kubernetes.wait-for-expected-log";
 
     @Override
     public KubernetesServiceConfiguration build() {
@@ -19,6 +20,8 @@ public final class KubernetesServiceConfigurationBuilder
                 .ifPresent(serviceConfiguration::setUseInternalService);
         loadArrayOfIntegers(ADDITIONAL_PORTS_PROPERTY, a -> a.additionalPorts())
                 .ifPresent(serviceConfiguration::setAdditionalPorts);
+        loadBoolean(WAIT_FOR_EXPECTED_LOG_PROPERTY, a -> a.waitForExpectedLog())
+                .ifPresent(serviceConfiguration::setWaitForExpectedLog);
         return serviceConfiguration;
     }
 
@@ -1,19 +1,24 @@
 package io.jester.configuration;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Level;
 
 import io.jester.api.PortResolutionStrategy;
+import io.jester.api.ReadinessProbe;
 
 @SuppressWarnings("checkstyle:MagicNumber")
 public final class ServiceConfiguration {
 
     private Duration startupTimeout = Duration.ofMinutes(5);
     private Duration startupCheckPollInterval = Duration.ofSeconds(2);
+    private List<ReadinessProbe> readinessProbes = Collections.emptyList();
     private Double factorTimeout = 1.0;
     private boolean deleteFolderOnClose = true;
     private boolean logEnabled = true;
     private Level logLevel = Level.INFO;
+    private int logMaxLinesInMemory = 100000;
     private int portRangeMin = 1100;
     private int portRangeMax = 49151;
     private PortResolutionStrategy portResolutionStrategy = PortResolutionStrategy.INCREMENTAL;
@@ -35,6 +40,14 @@ public final class ServiceConfiguration {
         this.startupCheckPollInterval = startupCheckPollInterval;
     }
 
+    public List<ReadinessProbe> getReadinessProbes() {
+        return readinessProbes;
+    }
+
+    public void setReadinessProbes(List<ReadinessProbe> readinessProbes) {
+        this.readinessProbes = readinessProbes;
+    }
+
     public Double getFactorTimeout() {
         return factorTimeout;
     }
@@ -67,6 +80,14 @@ public final class ServiceConfiguration {
         this.logLevel = logLevel;
     }
 
+    public int getLogMaxLinesInMemory() {
+        return logMaxLinesInMemory;
+    }
+
+    public void setLogMaxLinesInMemory(int logMaxLinesInMemory) {
+        this.logMaxLinesInMemory = logMaxLinesInMemory;
+    }
+
     public int getPortRangeMin() {
         return portRangeMin;
     }
@@ -2,19 +2,26 @@ package io.jester.configuration;
 
 import java.util.Optional;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
 
 import io.jester.api.PortResolutionStrategy;
 import io.jester.core.JesterContext;
+import io.jester.core.readiness.ReadinessProbes;
 
 public class ServiceConfigurationBuilder
         extends BaseConfigurationBuilder<io.jester.api.ServiceConfiguration, ServiceConfiguration> {
 
     private static final String STARTUP_TIMEOUT = "startup.timeout";
     private static final String STARTUP_CHECK_POLL_INTERVAL = "startup.check-poll-interval";
+    private static final String READINESS_PROBES = "readiness.probes";
     private static final String FACTOR_TIMEOUT_PROPERTY = "factor.timeout";
     private static final String DELETE_FOLDER_ON_CLOSE = "delete.folder.on.close";
     private static final String LOG_ENABLED = "log.enabled";
     private static final String LOG_LEVEL = "log.level";
+    private static final String LOG_MAX_LINES_IN_MEMORY = "log.max-lines-in-memory";
     private static final String PORT_RANGE_MIN = "port.range.min";
     private static final String PORT_RANGE_MAX = "port.range.max";
     private static final String PORT_RESOLUTION_STRATEGY = "port.resolution.strategy";
@@ -26,10 +33,14 @@ public class ServiceConfigurationBuilder
         loadDuration(STARTUP_TIMEOUT, a -> a.startupTimeout()).ifPresent(config::setStartupTimeout);
         loadDuration(STARTUP_CHECK_POLL_INTERVAL, a -> a.startupCheckPollInterval())
                 .ifPresent(config::setStartupCheckPollInterval);
+        loadArrayOfStrings(READINESS_PROBES, a -> a.readinessProbes()).map(probes -> Stream.of(probes)
+                .filter(StringUtils::isNotBlank).map(ReadinessProbes::parse).collect(Collectors.toList()))
+                .ifPresent(config::setReadinessProbes);
         loadDouble(FACTOR_TIMEOUT_PROPERTY, a -> a.factorTimeout()).ifPresent(config::setFactorTimeout);
         loadBoolean(DELETE_FOLDER_ON_CLOSE, a -> a.deleteFolderOnClose()).ifPresent(config::setDeleteFolderOnClose);
         loadBoolean(LOG_ENABLED, a -> a.logEnabled()).ifPresent(config::setLogEnabled);
         loadString(LOG_LEVEL, a -> a.logLevel()).map(Level::parse).ifPresent(config::setLogLevel);
+        loadInteger(LOG_MAX_LINES_IN_MEMORY, a -> a.logMaxLinesInMemory()).ifPresent(config::setLogMaxLinesInMemory);
         loadInteger(PORT_RANGE_MIN, a -> a.portRangeMin()).ifPresent(config::setPortRangeMin);
         loadInteger(PORT_RANGE_MAX, a -> a.portRangeMax()).ifPresent(config::setPortRangeMax);
         loadString(PORT_RESOLUTION_STRATEGY, a -> a.portResolutionStrategy()).map(String::toUpperCase)
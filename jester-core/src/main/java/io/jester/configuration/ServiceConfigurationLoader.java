@@ -26,6 +26,17 @@ public final class ServiceConfigurationLoader {
 
     public static <T extends Annotation, C> C load(String scope, JesterContext context,
             BaseConfigurationBuilder<T, C> builder) {
+        // Load configuration from annotations
+        builder.with(scope, context).withProperties(loadProperties(scope));
+
+        // Build service configuration mixing up configuration from properties and annotations
+        return builder.build();
+    }
+
+    /**
+     * @return the properties that configure the given scope, without the `ts.services.<scope>.` prefix.
+     */
+    public static Map<String, String> loadProperties(String scope) {
         Map<String, String> properties = new HashMap<>();
         // Lowest priority: properties from global.properties and scope `global`
         properties.putAll(loadPropertiesFrom(GLOBAL_PROPERTIES, ALL_SERVICES));
@@ -36,12 +47,7 @@ public final class ServiceConfigurationLoader {
         properties.putAll(loadPropertiesFrom(TEST_PROPERTIES, scope));
         // Then, highest priority: properties from system properties and scope as service name
         properties.putAll(loadPropertiesFromSystemProperties(scope));
-
-        // Load configuration from annotations
-        builder.with(scope, context).withProperties(properties);
-
-        // Build service configuration mixing up configuration from properties and annotations
-        return builder.build();
+        return properties;
     }
 
     private static Map<String, String> loadPropertiesFromSystemProperties(String scope) {
@@ -1,6 +1,7 @@
 package io.jester.core;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -8,31 +9,42 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 
 import io.jester.api.HookAction;
+import io.jester.api.ReadinessProbe;
 import io.jester.api.Service;
 import io.jester.api.ServiceListener;
+import io.jester.api.StartPolicy;
 import io.jester.configuration.ServiceConfiguration;
 import io.jester.logging.Log;
+import io.jester.logging.LoggingHandler;
 import io.jester.utils.FileUtils;
 import io.jester.utils.PropertiesUtils;
 
 public class BaseService<T extends Service> implements Service {
+    private static final long LOGS_NOT_AVAILABLE_WAIT_IN_MILLIS = 100;
+
     private final ServiceLoader<ServiceListener> listeners = ServiceLoader.load(ServiceListener.class);
 
     private final List<HookAction> onPreStartHookActions = new LinkedList<>();
     private final List<HookAction> onPostStartHookActions = new LinkedList<>();
     private final Map<String, String> properties = new HashMap<>();
     private final List<Runnable> futureProperties = new LinkedList<>();
+    private final List<Service> dependencies = new LinkedList<>();
+    private final List<String> dependenciesByName = new LinkedList<>();
+    private final List<ReadinessProbe> readinessProbes = new LinkedList<>();
 
     private ManagedResource managedResource;
     private String serviceName;
     private ServiceContext context;
-    private boolean autoStart = true;
+    private StartPolicy startPolicy = StartPolicy.AUTO;
+    private volatile boolean lazyStartTriggered;
+    private boolean lazyStarting;
 
     @Override
     public String getContextId() {
@@ -51,7 +63,12 @@ public class BaseService<T extends Service> implements Service {
 
     @Override
     public boolean isAutoStart() {
-        return autoStart;
+        return startPolicy == StartPolicy.AUTO;
+    }
+
+    @Override
+    public StartPolicy getStartPolicy() {
+        return startPolicy;
     }
 
     public T onPreStart(HookAction hookAction) {
@@ -65,10 +82,52 @@ public class BaseService<T extends Service> implements Service {
     }
 
     public T setAutoStart(boolean autoStart) {
-        this.autoStart = autoStart;
+        return setStartPolicy(autoStart ? StartPolicy.AUTO : StartPolicy.MANUAL);
+    }
+
+    public T setStartPolicy(StartPolicy startPolicy) {
+        this.startPolicy = startPolicy;
+        return (T) this;
+    }
+
+    /**
+     * The service will be started after the given services are up and running, and stopped before them.
+     */
+    public T dependsOn(Service... services) {
+        Stream.of(services).filter(s -> !dependencies.contains(s)).forEach(dependencies::add);
+        return (T) this;
+    }
+
+    /**
+     * The service will be started after the services with the given names are up and running, and stopped before them.
+     */
+    @Override
+    public T dependsOn(String... serviceNames) {
+        Stream.of(serviceNames).filter(s -> !dependenciesByName.contains(s)).forEach(dependenciesByName::add);
         return (T) this;
     }
 
+    @Override
+    public List<String> getDependencies() {
+        List<String> names = new ArrayList<>(dependenciesByName);
+        dependencies.stream().map(Service::getName).filter(StringUtils::isNotEmpty).filter(s -> !names.contains(s))
+                .forEach(names::add);
+        return names;
+    }
+
+    /**
+     * The service will be considered started when the readiness probe passes, in addition to the service own checks.
+     */
+    public T withReadinessProbe(ReadinessProbe readinessProbe) {
+        readinessProbes.add(readinessProbe);
+        return (T) this;
+    }
+
+    @Override
+    public List<ReadinessProbe> getReadinessProbes() {
+        return Collections.unmodifiableList(readinessProbes);
+    }
+
     /**
      * The runtime configuration property to be used if the built artifact is configured to be run.
      */
@@ -106,17 +165,23 @@ public class BaseService<T extends Service> implements Service {
 
     @Override
     public String getHost() {
-        return managedResource.getHost();
+        return getEndpoint().getHost();
     }
 
     @Override
     public int getFirstMappedPort() {
-        return managedResource.getFirstMappedPort();
+        return getEndpoint().getFirstMappedPort();
     }
 
     @Override
     public int getMappedPort(int port) {
-        return managedResource.getMappedPort(port);
+        return getEndpoint().getMappedPort(port);
+    }
+
+    @Override
+    public ServiceEndpoint getEndpoint() {
+        startIfLazy();
+        return managedResource.getEndpoint();
     }
 
     @Override
@@ -131,7 +196,19 @@ public class BaseService<T extends Service> implements Service {
 
     @Override
     public List<String> getLogs() {
-        return new ArrayList<>(managedResource.logs());
+        startIfLazy();
+        return managedResource.logs();
+    }
+
+    @Override
+    public void awaitLogs(int afterLines, Duration timeout) throws InterruptedException {
+        startIfLazy();
+        LoggingHandler loggingHandler = managedResource.getLoggingHandler();
+        if (loggingHandler != null) {
+            loggingHandler.awaitLogs(afterLines, timeout);
+        } else {
+            TimeUnit.MILLISECONDS.sleep(Math.min(timeout.toMillis(), LOGS_NOT_AVAILABLE_WAIT_IN_MILLIS));
+        }
     }
 
     @Override
@@ -156,13 +233,14 @@ public class BaseService<T extends Service> implements Service {
      *             when application errors at startup.
      */
     @Override
-    public void start() {
+    public synchronized void start() {
         if (isRunning()) {
             return;
         }
 
         Log.debug(this, "Starting service (%s)", getDisplayName());
         onPreStartHookActions.forEach(a -> a.handle(this));
+        futureProperties.forEach(Runnable::run);
         doStart();
         onPostStartHookActions.forEach(a -> a.handle(this));
         Log.info(this, "Service started (%s)", getDisplayName());
@@ -179,7 +257,8 @@ public class BaseService<T extends Service> implements Service {
 
         Log.debug(this, "Stopping service (%s)", getDisplayName());
         listeners.forEach(ext -> ext.onServiceStopped(context));
-        managedResource.stop();
+        context.getTimings().time(LifecyclePhase.STOP, managedResource::stop);
+        managedResource.invalidateEndpoint();
 
         Log.info(this, "Service stopped (%s)", getDisplayName());
     }
@@ -191,10 +270,14 @@ public class BaseService<T extends Service> implements Service {
     public void close() {
         if (!context.getJesterContext().isDebug()) {
             stop();
+            if (managedResource != null) {
+                managedResource.release();
+            }
+
             if (!context.getJesterContext().getConfiguration().isProfilingEnabled()
                     && context.getConfiguration().isDeleteFolderOnClose()) {
                 try {
-                    FileUtils.deletePath(getServiceFolder());
+                    context.getTimings().time(LifecyclePhase.CLEANUP, () -> FileUtils.deletePath(getServiceFolder()));
                 } catch (Exception ex) {
                     Log.warn(this, "Could not delete service folder. Caused by " + ex.getMessage());
                 }
@@ -206,7 +289,6 @@ public class BaseService<T extends Service> implements Service {
     public ServiceContext register(String serviceName, JesterContext context) {
         this.serviceName = serviceName;
         this.context = new ServiceContext(this, context);
-        onPreStart(s -> futureProperties.forEach(Runnable::run));
         context.getTestStore().put(serviceName, this);
         return this.context;
     }
@@ -214,19 +296,70 @@ public class BaseService<T extends Service> implements Service {
     @Override
     public void init(ManagedResource managedResource) {
         this.managedResource = managedResource;
-        FileUtils.recreateDirectory(context.getServiceFolder());
-        this.managedResource.init(context);
-        this.managedResource.validate();
+        context.getTimings().time(LifecyclePhase.RESOLVE, () -> {
+            FileUtils.recreateDirectory(context.getServiceFolder());
+            this.managedResource.init(context);
+            this.managedResource.validate();
+        });
     }
 
     public Path getServiceFolder() {
         return context.getServiceFolder();
     }
 
+    /**
+     * The supplied properties and the hooks depend on the test class that configured them, so these services are not
+     * shared.
+     */
+    @Override
+    public boolean supportsSharing() {
+        return futureProperties.isEmpty() && onPreStartHookActions.isEmpty() && onPostStartHookActions.isEmpty();
+    }
+
+    @Override
+    public void attachTo(Service sharedService) {
+        if (!(sharedService instanceof BaseService)) {
+            throw new UnsupportedOperationException(
+                    "Service " + getName() + " can't be attached to " + sharedService.getDisplayName());
+        }
+
+        this.managedResource = ((BaseService<?>) sharedService).managedResource;
+        this.managedResource.onAttach(context);
+    }
+
+    protected ServiceContext getContext() {
+        return context;
+    }
+
+    /**
+     * Lazy services are started only once: if the service is stopped, it's not started again. If it fails to start, it
+     * will be started again on the next use.
+     */
+    private void startIfLazy() {
+        if (startPolicy != StartPolicy.LAZY || lazyStartTriggered) {
+            return;
+        }
+
+        synchronized (this) {
+            // the service might be used while it's starting, for example, by the readiness probes
+            if (!lazyStartTriggered && !lazyStarting) {
+                lazyStarting = true;
+                try {
+                    Log.debug(this, "Starting lazy service on first use (%s)", getDisplayName());
+                    context.launch();
+                    lazyStartTriggered = true;
+                } finally {
+                    lazyStarting = false;
+                }
+            }
+        }
+    }
+
     private void doStart() {
         try {
-            managedResource.start();
-            managedResource.waitUntilResourceIsStarted();
+            context.getTimings().time(LifecyclePhase.START, managedResource::start);
+            context.getTimings().time(LifecyclePhase.READINESS, managedResource::waitUntilResourceIsStarted);
+            managedResource.invalidateEndpoint();
             listeners.forEach(ext -> ext.onServiceStarted(context));
         } catch (Exception ex) {
             listeners.forEach(ext -> ext.onServiceError(context, ex));
@@ -0,0 +1,73 @@
+package io.jester.core;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.jester.api.extensions.AnnotationBinding;
+import io.jester.api.extensions.ExtensionBootstrap;
+
+/**
+ * Loads the annotation bindings and the extensions only once for all the test classes. The annotation bindings are
+ * indexed by the annotation types they support.
+ */
+final class ExtensionsRegistry {
+
+    private static final ExtensionsRegistry INSTANCE = new ExtensionsRegistry();
+
+    private final List<AnnotationBinding> bindings;
+    private final Map<Class<? extends Annotation>, AnnotationBinding> bindingsByAnnotation;
+    private final List<AnnotationBinding> bindingsWithoutSupportedAnnotations;
+    private final List<Provider<ExtensionBootstrap>> extensionProviders;
+
+    private ExtensionsRegistry() {
+        bindings = ServiceLoader.load(AnnotationBinding.class).stream().map(Provider::get)
+                .collect(Collectors.toUnmodifiableList());
+        Map<Class<? extends Annotation>, AnnotationBinding> indexedBindings = new HashMap<>();
+        List<AnnotationBinding> otherBindings = new ArrayList<>();
+        for (AnnotationBinding binding : bindings) {
+            List<Class<? extends Annotation>> supportedAnnotations = binding.getSupportedAnnotations();
+            if (supportedAnnotations.isEmpty()) {
+                otherBindings.add(binding);
+            }
+
+            supportedAnnotations.forEach(annotation -> indexedBindings.putIfAbsent(annotation, binding));
+        }
+
+        bindingsByAnnotation = Map.copyOf(indexedBindings);
+        bindingsWithoutSupportedAnnotations = List.copyOf(otherBindings);
+
+        extensionProviders = ServiceLoader.load(ExtensionBootstrap.class).stream()
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * @return the first binding in the loading order that handles any of the annotations.
+     */
+    public Optional<AnnotationBinding> findAnnotationBinding(Annotation... annotations) {
+        Stream<AnnotationBinding> indexedBindings = Stream.of(annotations).map(Annotation::annotationType)
+                .map(bindingsByAnnotation::get).filter(binding -> binding != null);
+        Stream<AnnotationBinding> otherBindings = bindingsWithoutSupportedAnnotations.stream()
+                .filter(binding -> binding.isFor(annotations));
+        return Stream.concat(indexedBindings, otherBindings).min(Comparator.comparingInt(bindings::indexOf));
+    }
+
+    /**
+     * @return new instances of the extensions since these keep the state of the test class.
+     */
+    public List<ExtensionBootstrap> createExtensions() {
+        return extensionProviders.stream().map(Provider::get).collect(Collectors.toUnmodifiableList());
+    }
+
+    static ExtensionsRegistry get() {
+        return INSTANCE;
+    }
+}
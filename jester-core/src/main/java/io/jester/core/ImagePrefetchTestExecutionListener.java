@@ -0,0 +1,117 @@
+package io.jester.core;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import io.jester.api.Jester;
+import io.jester.api.RunOnKubernetes;
+import io.jester.api.Service;
+import io.jester.configuration.ConfigurationLoader;
+import io.jester.configuration.JesterConfiguration;
+import io.jester.configuration.JesterConfigurationBuilder;
+import io.jester.logging.Log;
+import io.jester.utils.ReflectionUtils;
+
+/**
+ * When the property `ts.jester.image.prefetch` is true, the container images of the services of the next test class are
+ * pulled in background while the current test class is running. The services are still built and started by the test
+ * class.
+ */
+public class ImagePrefetchTestExecutionListener implements TestExecutionListener {
+
+    private static final String JESTER = "jester";
+
+    private final List<Class<?>> testClasses = new ArrayList<>();
+    private ExecutorService executor;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        JesterConfiguration configuration = new JesterConfigurationBuilder()
+                .withProperties(ConfigurationLoader.loadProperties(JESTER)).build();
+        if (!configuration.isImagePrefetchEnabled()) {
+            return;
+        }
+
+        testPlan.getRoots().forEach(root -> collectTestClasses(testPlan, root));
+        if (!testClasses.isEmpty()) {
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "jester-image-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (executor == null) {
+            return;
+        }
+
+        getTestClass(testIdentifier.getSource().orElse(null)).ifPresent(testClass -> {
+            int index = testClasses.indexOf(testClass);
+            if (index >= 0 && index + 1 < testClasses.size()) {
+                Class<?> nextTestClass = testClasses.get(index + 1);
+                executor.submit(() -> prefetchImages(nextTestClass));
+            }
+        });
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+
+        testClasses.clear();
+    }
+
+    private void collectTestClasses(TestPlan testPlan, TestIdentifier identifier) {
+        getTestClass(identifier.getSource().orElse(null)).filter(ImagePrefetchTestExecutionListener::isLocalJesterTest)
+                .filter(testClass -> !testClasses.contains(testClass)).ifPresent(testClasses::add);
+        testPlan.getChildren(identifier).forEach(child -> collectTestClasses(testPlan, child));
+    }
+
+    private void prefetchImages(Class<?> testClass) {
+        Log.debug("Pulling images of test class '%s'", testClass.getSimpleName());
+        ExtensionsRegistry registry = ExtensionsRegistry.get();
+        try {
+            for (Annotation annotation : ReflectionUtils.findAllAnnotations(testClass)) {
+                registry.findAnnotationBinding(annotation).ifPresent(binding -> binding.prefetchImages(annotation));
+            }
+
+            ReflectionUtils.findAllFields(testClass).stream()
+                    .filter(field -> Service.class.isAssignableFrom(field.getType()))
+                    .map(field -> field.getAnnotations())
+                    .forEach(annotations -> registry.findAnnotationBinding(annotations)
+                            .ifPresent(binding -> binding.prefetchImages(annotations)));
+        } catch (Exception ex) {
+            // the test class will pull the images anyway
+            Log.debug("Could not pull images of test class '%s'. Caused by %s", testClass.getSimpleName(),
+                    ex.getMessage());
+        }
+    }
+
+    private static Optional<Class<?>> getTestClass(TestSource source) {
+        if (source instanceof ClassSource) {
+            return Optional.of(((ClassSource) source).getJavaClass());
+        }
+
+        return Optional.empty();
+    }
+
+    private static boolean isLocalJesterTest(Class<?> testClass) {
+        return testClass.isAnnotationPresent(Jester.class) && !testClass.isAnnotationPresent(RunOnKubernetes.class);
+    }
+}
@@ -0,0 +1,17 @@
+package io.jester.core;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import io.jester.utils.IoScheduler;
+
+/**
+ * Stop the I/O tasks of the framework once all the tests have been executed.
+ */
+public class IoSchedulerTestExecutionListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        IoScheduler.shutdown();
+    }
+}
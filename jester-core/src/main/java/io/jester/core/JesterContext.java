@@ -5,11 +5,13 @@ import static io.jester.logging.Log.LOG_SUFFIX;
 import java.lang.annotation.Annotation;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.SecureRandom;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -24,15 +26,21 @@ public final class JesterContext {
     private static final String JESTER = "jester";
     private static final String LOG_FILE_PATH = System.getProperty("log.file.path", "target/logs");
     private static final int JESTER_ID_MAX_SIZE = 60;
+    private static final String PARALLEL_EXECUTION_ENABLED = "junit.jupiter.execution.parallel.enabled";
+    /**
+     * Distinguishes contexts created at the same time by different JVMs (for example, when using forks).
+     */
+    private static final String JVM_ID = String.format("%04x", new SecureRandom().nextInt(0x10000));
+    private static final AtomicLong CONTEXT_SEQUENCE = new AtomicLong();
 
     private final ExtensionContext testContext;
     private final String id;
     private final ExtensionContext.Namespace testNamespace;
-    private final Map<String, Object> customConfigurationByTarget = new HashMap<>();
-    private final Map<Class<?>, List<Annotation>> annsForConfiguration = new HashMap<>();
+    private final Map<String, Object> customConfigurationByTarget = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<Annotation>> annsForConfiguration = new ConcurrentHashMap<>();
 
-    private ExtensionContext methodTestContext;
-    private boolean failed;
+    private volatile ExtensionContext methodTestContext;
+    private volatile boolean failed;
     private boolean debug;
 
     protected JesterContext(ExtensionContext testContext) {
@@ -51,6 +59,14 @@ public final class JesterContext {
         return failed;
     }
 
+    /**
+     * @return whether JUnit runs the tests in parallel, so no global state can be modified.
+     */
+    public boolean isParallelExecutionEnabled() {
+        return testContext.getConfigurationParameter(PARALLEL_EXECUTION_ENABLED).map(Boolean::parseBoolean)
+                .orElse(false);
+    }
+
     public boolean isDebug() {
         return debug;
     }
@@ -95,6 +111,13 @@ public final class JesterContext {
         return getTestContext().getStore(this.testNamespace);
     }
 
+    /**
+     * @return the store that lives until all the test classes have finished.
+     */
+    public ExtensionContext.Store getSuiteStore() {
+        return testContext.getRoot().getStore(this.testNamespace);
+    }
+
     public ExtensionContext getTestContext() {
         return Optional.ofNullable(methodTestContext).orElse(testContext);
     }
@@ -124,11 +147,8 @@ public final class JesterContext {
     }
 
     public <T extends Annotation> Optional<T> getAnnotatedConfiguration(Class<T> clazz, Predicate<T> apply) {
-        List<Annotation> configurationsByClass = annsForConfiguration.get(clazz);
-        if (configurationsByClass == null) {
-            configurationsByClass = loadAnnotatedConfiguration(clazz);
-            annsForConfiguration.put(clazz, configurationsByClass);
-        }
+        List<Annotation> configurationsByClass = annsForConfiguration.computeIfAbsent(clazz,
+                k -> loadAnnotatedConfiguration(clazz));
 
         return configurationsByClass.stream().filter(clazz::isInstance).map(clazz::cast).filter(apply::test)
                 .findFirst();
@@ -153,7 +173,10 @@ public final class JesterContext {
     }
 
     private static String generateContextId(ExtensionContext context) {
-        String fullId = context.getRequiredTestClass().getSimpleName() + "-" + System.currentTimeMillis();
-        return fullId.substring(0, Math.min(JESTER_ID_MAX_SIZE, fullId.length()));
+        // the suffix is never truncated to avoid collisions between test classes starting at the same time
+        String suffix = "-" + System.currentTimeMillis() + "-" + JVM_ID + CONTEXT_SEQUENCE.incrementAndGet();
+        String testClassName = context.getRequiredTestClass().getSimpleName();
+        return testClassName.substring(0, Math.min(JESTER_ID_MAX_SIZE - suffix.length(), testClassName.length()))
+                + suffix;
     }
 }
@@ -0,0 +1,39 @@
+package io.jester.core;
+
+/**
+ * The phases of the service lifecycle that are timed by Jester.
+ */
+public enum LifecyclePhase {
+    /**
+     * Resolve and initialize the managed resource of the service.
+     */
+    RESOLVE,
+    /**
+     * Build the application, for example, the Quarkus augmentation or the Maven build of Spring applications.
+     */
+    BUILD,
+    /**
+     * Build and push the container images.
+     */
+    IMAGE,
+    /**
+     * Start the managed resource.
+     */
+    START,
+    /**
+     * Wait for the managed resource to be ready.
+     */
+    READINESS,
+    /**
+     * Stop the managed resource.
+     */
+    STOP,
+    /**
+     * Delete the service folder.
+     */
+    CLEANUP;
+
+    public String getName() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,60 @@
+package io.jester.core;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Accumulates the time spent in every lifecycle phase of a service. When a phase runs inside another phase (for
+ * example, the build of the application while resolving the managed resource), the time is only accounted to the inner
+ * phase, so the sum of all the phases is the total time spent by the service.
+ */
+public final class LifecycleTimings {
+
+    private static final ThreadLocal<Deque<Frame>> RUNNING_PHASES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final Map<LifecyclePhase, Long> nanosByPhase = new EnumMap<>(LifecyclePhase.class);
+
+    public void time(LifecyclePhase phase, Runnable action) {
+        time(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T time(LifecyclePhase phase, Supplier<T> action) {
+        Deque<Frame> runningPhases = RUNNING_PHASES.get();
+        Frame frame = new Frame();
+        runningPhases.push(frame);
+        try {
+            return action.get();
+        } finally {
+            runningPhases.pop();
+            long elapsed = System.nanoTime() - frame.start;
+            record(phase, elapsed - frame.nestedNanos);
+            Frame parent = runningPhases.peek();
+            if (parent != null) {
+                parent.nestedNanos += elapsed;
+            }
+        }
+    }
+
+    public synchronized void record(LifecyclePhase phase, long nanos) {
+        nanosByPhase.merge(phase, Math.max(0, nanos), Long::sum);
+    }
+
+    public synchronized Map<LifecyclePhase, Duration> getDurations() {
+        Map<LifecyclePhase, Duration> durations = new EnumMap<>(LifecyclePhase.class);
+        nanosByPhase.forEach((phase, nanos) -> durations.put(phase, Duration.ofNanos(nanos)));
+        return Collections.unmodifiableMap(durations);
+    }
+
+    private static final class Frame {
+        private final long start = System.nanoTime();
+        private long nestedNanos;
+    }
+}
@@ -1,19 +1,22 @@
 package io.jester.core;
 
-import static io.jester.utils.AwaitilityUtils.untilIsTrue;
-
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.core.ConditionTimeoutException;
 
+import io.jester.api.ReadinessProbe;
+import io.jester.logging.Log;
 import io.jester.logging.LoggingHandler;
-import io.jester.utils.AwaitilityUtils;
 import io.jester.utils.PropertiesUtils;
 
 public abstract class ManagedResource {
@@ -22,8 +25,13 @@ public abstract class ManagedResource {
     protected static final Path SOURCE_RESOURCES = Path.of("src", "main", "resources");
     protected static final Path SOURCE_TEST_RESOURCES = Path.of("src", "test", "resources");
 
+    private static final Duration READINESS_PROBES_INITIAL_BACKOFF = Duration.ofMillis(5);
+
     protected ServiceContext context;
 
+    private volatile boolean readyByProbes;
+    private volatile ServiceEndpoint endpoint;
+
     /**
      * @return name of the running resource.
      */
@@ -62,6 +70,20 @@ public abstract class ManagedResource {
      */
     public abstract boolean isRunning();
 
+    /**
+     * @return the resolved host and mapped ports, which are only resolved again after a restart or when the endpoint is
+     *         stale.
+     */
+    public ServiceEndpoint getEndpoint() {
+        ServiceEndpoint current = endpoint;
+        if (current == null || isEndpointStale()) {
+            current = new ServiceEndpoint(this);
+            endpoint = current;
+        }
+
+        return current;
+    }
+
     /**
      * @return the logging handler associated with the managed resource.
      */
@@ -99,18 +121,118 @@ public abstract class ManagedResource {
         this.context = context;
     }
 
+    /**
+     * Release what was reserved for the whole life of the resource, for example, the ports. It's called after the
+     * resource is stopped for the last time.
+     */
+    protected void release() {
+
+    }
+
+    /**
+     * Called when the service of another test class reuses this resource. Note that the resource keeps the service
+     * context of the test class that initialized it.
+     */
+    protected void onAttach(ServiceContext attachedContext) {
+
+    }
+
+    /**
+     * @return whether the host or the mapped ports might have changed while the resource is running.
+     */
+    protected boolean isEndpointStale() {
+        return false;
+    }
+
+    void invalidateEndpoint() {
+        endpoint = null;
+    }
+
+    /**
+     * The resource state is checked as soon as the state might have changed (see {@link #awaitStateChange}), or after
+     * the poll interval otherwise. When there are readiness probes, these are checked using an exponential backoff that
+     * starts at a few milliseconds and it's bounded by the poll interval.
+     */
     protected void waitUntilResourceIsStarted() {
-        Duration startupCheckInterval = context.getConfiguration().getStartupCheckPollInterval();
-        Duration startupTimeout = context.getConfiguration().getStartupTimeout();
-        untilIsTrue(this::isRunningOrFailed,
-                AwaitilityUtils.AwaitilitySettings.using(startupCheckInterval, startupTimeout).doNotIgnoreExceptions()
-                        .withService(context.getOwner())
-                        .timeoutMessage("Service didn't start in %s minutes", startupTimeout));
-        if (getLoggingHandler() != null) {
-            getLoggingHandler().flush();
+        long startupCheckInterval = context.getConfiguration().getStartupCheckPollInterval().toNanos();
+        long timeout = Math.round(context.getConfiguration().getStartupTimeout().toNanos()
+                * context.getConfiguration().getFactorTimeout());
+        long deadline = System.nanoTime() + timeout;
+        List<ReadinessProbe> readinessProbes = getReadinessProbes();
+        long interval = readinessProbes.isEmpty() ? startupCheckInterval
+                : Math.min(READINESS_PROBES_INITIAL_BACKOFF.toNanos(), startupCheckInterval);
+        LoggingHandler loggingHandler = getLoggingHandler();
+        readyByProbes = false;
+        try {
+            while (true) {
+                long stateVersion = getStateVersion();
+                if (isStartedOrFailed(readinessProbes)) {
+                    break;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    String message = String.format("Service didn't start in %s", Duration.ofNanos(timeout));
+                    Log.warn(context.getOwner(), message);
+                    throw new ConditionTimeoutException(message);
+                }
+
+                awaitStateChange(stateVersion, Duration.ofNanos(Math.min(remaining, interval)));
+                interval = Math.min(interval * 2, startupCheckInterval);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the service to start", ex);
+        }
+
+        if (loggingHandler != null) {
+            loggingHandler.flush();
+        }
+    }
+
+    /**
+     * @return a number that changes when the state of the resource might have changed. By default, the number of log
+     *         lines.
+     */
+    protected long getStateVersion() {
+        LoggingHandler loggingHandler = getLoggingHandler();
+        return loggingHandler != null ? loggingHandler.getLinesCount() : 0;
+    }
+
+    /**
+     * Wait until the state version is different from the given one, or the wait expires. By default, it waits for new
+     * log lines.
+     */
+    protected void awaitStateChange(long stateVersion, Duration wait) throws InterruptedException {
+        LoggingHandler loggingHandler = getLoggingHandler();
+        if (loggingHandler != null) {
+            loggingHandler.awaitNewLines(stateVersion, wait);
+        } else {
+            TimeUnit.NANOSECONDS.sleep(wait.toNanos());
         }
     }
 
+    /**
+     * @return if the resource has started when there are no readiness probes. By default, if it's running.
+     */
+    protected boolean isStarted() {
+        return isRunning();
+    }
+
+    /**
+     * @return if the resource is up, even if it's not ready yet. It's used along with the readiness probes.
+     */
+    protected boolean isAlive() {
+        return isRunning();
+    }
+
+    /**
+     * @return if all the readiness probes passed when the resource was started.
+     */
+    protected boolean isReadyByProbes() {
+        return readyByProbes;
+    }
+
     protected Map<String, Object> getAllComputedProperties() {
         Map<String, Object> allProperties = new HashMap<>();
         // from properties file
@@ -137,12 +259,32 @@ public abstract class ManagedResource {
         return "%" + context.getJesterContext().getRunningTestClassName() + "." + name;
     }
 
-    private boolean isRunningOrFailed() {
+    private List<ReadinessProbe> getReadinessProbes() {
+        List<ReadinessProbe> readinessProbes = new ArrayList<>(context.getConfiguration().getReadinessProbes());
+        readinessProbes.addAll(context.getOwner().getReadinessProbes());
+        return readinessProbes;
+    }
+
+    private boolean isStartedOrFailed(List<ReadinessProbe> readinessProbes) {
         if (isFailed()) {
             stop();
             throw new RuntimeException("Resource failed to start");
         }
 
-        return isRunning();
+        if (readinessProbes.isEmpty()) {
+            return isStarted();
+        }
+
+        readyByProbes = isAlive() && readinessProbes.stream().allMatch(this::isReady);
+        return readyByProbes;
+    }
+
+    private boolean isReady(ReadinessProbe readinessProbe) {
+        try {
+            return readinessProbe.isReady(this);
+        } catch (Exception ex) {
+            Log.debug(context.getOwner(), "Readiness probe %s is not ready yet: %s", readinessProbe, ex.getMessage());
+            return false;
+        }
     }
 }
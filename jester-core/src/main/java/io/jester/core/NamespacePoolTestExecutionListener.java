@@ -0,0 +1,17 @@
+package io.jester.core;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import io.jester.api.clients.NamespacePool;
+
+/**
+ * Delete the ephemeral namespaces that were created in background once all the tests have been executed.
+ */
+public class NamespacePoolTestExecutionListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        NamespacePool.shutdown();
+    }
+}
@@ -23,6 +23,10 @@ public final class ServiceContext {
     private final Map<String, Object> store = new HashMap<>();
     private final ServiceConfiguration configuration;
     private final List<Object> customConfiguration = new ArrayList<>();
+    private final LifecycleTimings timings = new LifecycleTimings();
+
+    private boolean shared;
+    private Runnable launcher;
 
     public ServiceContext(Service owner, JesterContext jesterContext) {
         this.owner = owner;
@@ -40,6 +44,13 @@ public final class ServiceContext {
         return owner.getName();
     }
 
+    /**
+     * @return whether the service is shared by several test classes.
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
     public JesterContext getJesterContext() {
         return jesterContext;
     }
@@ -56,6 +67,13 @@ public final class ServiceContext {
         return configuration;
     }
 
+    /**
+     * @return the time spent by the service in every lifecycle phase.
+     */
+    public LifecycleTimings getTimings() {
+        return timings;
+    }
+
     public <T> T getConfigurationAs(Class<T> configurationClazz) {
         return customConfiguration.stream().filter(configurationClazz::isInstance).map(configurationClazz::cast)
                 .findFirst()
@@ -80,6 +98,27 @@ public final class ServiceContext {
         return allProperties;
     }
 
+    void setShared(boolean shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * @param launcher
+     *            starts the service notifying the test class lifecycle, so the extensions are aware of the services
+     *            that are not started before running the tests.
+     */
+    void setLauncher(Runnable launcher) {
+        this.launcher = launcher;
+    }
+
+    void launch() {
+        if (launcher != null) {
+            launcher.run();
+        } else {
+            owner.start();
+        }
+    }
+
     public <T extends Annotation, C> void loadCustomConfiguration(Class<C> clazz,
             BaseConfigurationBuilder<T, C> builder) {
         if (customConfiguration.stream().anyMatch(c -> c.getClass() == clazz)) {
@@ -0,0 +1,71 @@
+package io.jester.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import io.jester.api.Service;
+
+/**
+ * Sort the services by the dependencies declared via {@link io.jester.api.DependsOn} or `dependsOn` methods.
+ */
+final class ServiceDependencyGraph {
+
+    private final List<Service> services;
+    private final Map<Service, List<Service>> dependenciesByService = new HashMap<>();
+
+    ServiceDependencyGraph(List<Service> services) {
+        this.services = services;
+        for (Service service : services) {
+            dependenciesByService.put(service,
+                    service.getDependencies().stream().map(this::findServiceByName).filter(Objects::nonNull)
+                            .filter(dependency -> dependency != service).distinct().collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * @return the dependencies of the service that are part of this graph.
+     */
+    List<Service> getDependencies(Service service) {
+        return dependenciesByService.getOrDefault(service, List.of());
+    }
+
+    /**
+     * @return the services grouped by layers: the services of one layer only depend on services of the previous layers.
+     *         The services within a layer keep the registration order.
+     */
+    List<List<Service>> getLayers() {
+        List<List<Service>> layers = new ArrayList<>();
+        List<Service> pending = new LinkedList<>(services);
+        List<Service> resolved = new ArrayList<>();
+        while (!pending.isEmpty()) {
+            List<Service> layer = pending.stream().filter(s -> resolved.containsAll(getDependencies(s)))
+                    .collect(Collectors.toList());
+            if (layer.isEmpty()) {
+                throw new RuntimeException("Cyclic dependency found between services: "
+                        + pending.stream().map(Service::getName).collect(Collectors.joining(", ")));
+            }
+
+            pending.removeAll(layer);
+            resolved.addAll(layer);
+            layers.add(layer);
+        }
+
+        return layers;
+    }
+
+    /**
+     * @return the services sorted so every service is after its dependencies.
+     */
+    List<Service> getSortedServices() {
+        return getLayers().stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    private Service findServiceByName(String name) {
+        return services.stream().filter(s -> Objects.equals(name, s.getName())).findFirst().orElse(null);
+    }
+}
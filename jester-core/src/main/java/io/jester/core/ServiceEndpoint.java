@@ -0,0 +1,65 @@
+package io.jester.core;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * The host and mapped ports of a running resource. These are resolved only once, the first time these are used, and
+ * reused by all the requests until the resource is restarted or the endpoint becomes stale.
+ */
+public final class ServiceEndpoint {
+
+    private final Supplier<String> hostResolver;
+    private final IntSupplier firstMappedPortResolver;
+    private final IntUnaryOperator mappedPortResolver;
+    private final Map<Integer, Integer> mappedPorts = new ConcurrentHashMap<>();
+
+    private volatile String host;
+    private volatile Integer firstMappedPort;
+
+    ServiceEndpoint(ManagedResource resource) {
+        this(resource::getHost, resource::getFirstMappedPort, resource::getMappedPort);
+    }
+
+    public ServiceEndpoint(Supplier<String> hostResolver, IntSupplier firstMappedPortResolver,
+            IntUnaryOperator mappedPortResolver) {
+        this.hostResolver = hostResolver;
+        this.firstMappedPortResolver = firstMappedPortResolver;
+        this.mappedPortResolver = mappedPortResolver;
+    }
+
+    public String getHost() {
+        String current = host;
+        if (current == null) {
+            current = hostResolver.get();
+            host = current;
+        }
+
+        return current;
+    }
+
+    public int getFirstMappedPort() {
+        Integer port = firstMappedPort;
+        if (port == null) {
+            port = firstMappedPortResolver.getAsInt();
+            firstMappedPort = port;
+        }
+
+        return port;
+    }
+
+    public int getMappedPort(int port) {
+        return mappedPorts.computeIfAbsent(port, mappedPortResolver::applyAsInt);
+    }
+
+    /**
+     * @return the base URI using the scheme and the mapped port, for example: "http://localhost:8080".
+     */
+    public URI getBaseUri(String scheme, int port) {
+        return URI.create(scheme + "://" + getHost() + ":" + getMappedPort(port));
+    }
+}
@@ -0,0 +1,58 @@
+package io.jester.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import io.jester.api.Service;
+import io.jester.logging.Log;
+
+/**
+ * Registry of the services that are shared by several test classes. It's stored in the root JUnit context, so the
+ * services are closed once all the tests have finished.
+ */
+final class SharedServices implements ExtensionContext.Store.CloseableResource {
+
+    private static final String SHARED_SERVICES = "shared-services";
+
+    private final Map<String, Service> servicesByKey = new LinkedHashMap<>();
+
+    synchronized Optional<Service> find(String key) {
+        return Optional.ofNullable(servicesByKey.get(key));
+    }
+
+    /**
+     * @return false if there was another service already registered using the same key.
+     */
+    synchronized boolean register(String key, Service service) {
+        return servicesByKey.putIfAbsent(key, service) == null;
+    }
+
+    @Override
+    public void close() {
+        List<Service> services;
+        synchronized (this) {
+            services = new ArrayList<>(servicesByKey.values());
+            servicesByKey.clear();
+        }
+
+        Collections.reverse(services);
+        for (Service service : services) {
+            try {
+                service.close();
+            } catch (Exception ex) {
+                Log.warn(service, "Could not close shared service. Caused by " + ex.getMessage());
+            }
+        }
+    }
+
+    static SharedServices getOrCreate(JesterContext context) {
+        return context.getSuiteStore().getOrComputeIfAbsent(SHARED_SERVICES, k -> new SharedServices(),
+                SharedServices.class);
+    }
+}
@@ -0,0 +1,604 @@
+package io.jester.core;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.TestInstances;
+
+import io.jester.api.DependsOn;
+import io.jester.api.LookupService;
+import io.jester.api.Service;
+import io.jester.api.SharedService;
+import io.jester.api.StartPolicy;
+import io.jester.api.extensions.AnnotationBinding;
+import io.jester.api.extensions.ExtensionBootstrap;
+import io.jester.configuration.ServiceConfigurationLoader;
+import io.jester.logging.Log;
+import io.jester.utils.ProcessUtils;
+import io.jester.utils.ReflectionUtils;
+
+/**
+ * Holds the state of a single test class, so test classes can safely run in parallel.
+ */
+final class TestClassLifecycle {
+
+    private static final long FORCED_SHUTDOWN_GRACE_SECONDS = 10;
+
+    private final ExtensionsRegistry registry = ExtensionsRegistry.get();
+
+    private final List<ServiceContext> services = new ArrayList<>();
+    private final List<Service> servicesToLaunch = new ArrayList<>();
+    private final Set<Service> sharedServices = new HashSet<>();
+    private JesterContext context;
+    private List<ExtensionBootstrap> extensions;
+
+    void beforeAll(ExtensionContext testContext) {
+        // Init jester context
+        context = new JesterContext(testContext);
+        Log.configure();
+        Log.debug("Jester ID: '%s'", context.getId());
+
+        // Init extensions
+        extensions = initExtensions();
+        extensions.forEach(ext -> ext.beforeAll(context));
+
+        // Init services from class annotations
+        TestClassModel model = TestClassModel.of(testContext);
+        model.getAnnotations().forEach(annotation -> initServiceFromAnnotation(annotation));
+
+        // Init services from static fields
+        model.getStaticFields().forEach(field -> initResourceFromField(testContext, field));
+
+        launchPendingServices();
+    }
+
+    void afterAll(ExtensionContext testContext) {
+        try {
+            closeServices();
+            TimingsReport.write(context, services);
+            deleteLogIfTestSuitePassed();
+            services.clear();
+            sharedServices.clear();
+        } finally {
+            extensions.forEach(ext -> ext.afterAll(context));
+        }
+    }
+
+    void beforeEach(ExtensionContext testContext) {
+        // Init services from instance fields
+        TestClassModel.of(testContext).getInstanceFields().forEach(field -> initResourceFromField(testContext, field));
+
+        launchPendingServices();
+
+        Log.info("## Running test " + testContext.getParent().map(ctx -> ctx.getDisplayName() + ".").orElse("")
+                + testContext.getDisplayName());
+        context.setMethodTestContext(testContext);
+        extensions.forEach(ext -> ext.beforeEach(context));
+        services.forEach(service -> {
+            if (service.getOwner().isAutoStart() && !service.getOwner().isRunning()) {
+                service.getOwner().start();
+            }
+        });
+    }
+
+    void afterEach(ExtensionContext testContext) {
+        if (!isClassLifecycle(testContext)) {
+            // Stop services from instance fields
+            TestClassModel.of(testContext).getInstanceServiceFields()
+                    .forEach(field -> stopServiceFromField(testContext, field));
+        }
+
+        extensions.forEach(ext -> ext.afterEach(context));
+    }
+
+    boolean supportsParameter(ParameterContext parameterContext) {
+        return isParameterSupported(parameterContext.getParameter().getType());
+    }
+
+    Object resolveParameter(ParameterContext parameterContext) {
+        return getParameter(new DependencyContext(parameterContext));
+    }
+
+    void testSuccessful() {
+        extensions.forEach(ext -> ext.onSuccess(context));
+    }
+
+    void testFailed(Throwable cause) {
+        testOnError(cause);
+    }
+
+    void testDisabled(Optional<String> reason) {
+        extensions.forEach(ext -> ext.onDisabled(context, reason));
+    }
+
+    private void launchService(Service service) {
+        if (isStartedOnLaunch(service)) {
+            startService(service);
+        }
+    }
+
+    private void startService(Service service) {
+        notifyLaunch(service);
+        try {
+            service.start();
+        } catch (Throwable throwable) {
+            testOnError(throwable);
+            throw throwable;
+        }
+    }
+
+    /**
+     * @return whether the service has to be started before running the tests.
+     */
+    private boolean isStartedOnLaunch(Service service) {
+        if (service.getStartPolicy() == StartPolicy.LAZY) {
+            Log.debug(service, "Service (%s) will be started on first use", service.getDisplayName());
+            return false;
+        } else if (!service.isAutoStart()) {
+            Log.debug(service, "Service (%s) auto start is off", service.getDisplayName());
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Notify the extensions that the service is about to be started.
+     */
+    private void notifyLaunch(Service service) {
+        Log.info(service, "Initialize service (%s)", service.getDisplayName());
+        extensions.forEach(ext -> ext.onServiceLaunch(context, service));
+    }
+
+    private void launchPendingServices() {
+        List<Service> pendingServices = new ArrayList<>(servicesToLaunch);
+        servicesToLaunch.clear();
+        if (pendingServices.isEmpty()) {
+            return;
+        }
+
+        validateDependencies(pendingServices);
+        ServiceDependencyGraph graph = new ServiceDependencyGraph(pendingServices);
+        if (pendingServices.size() > 1 && context.getConfiguration().isParallelServiceStartEnabled()) {
+            try {
+                launchServicesInParallel(graph);
+            } catch (Throwable throwable) {
+                testOnError(throwable);
+                throw throwable;
+            }
+        } else {
+            graph.getSortedServices().forEach(this::launchService);
+        }
+    }
+
+    /**
+     * Every service is started as soon as all its dependencies are up and running. Only the services are started in
+     * parallel: the extensions are notified from the current thread, as these are not meant to be thread-safe.
+     */
+    private void launchServicesInParallel(ServiceDependencyGraph graph) {
+        List<Service> pendingServices = new LinkedList<>(graph.getSortedServices());
+        ExecutorService executor = newExecutor(pendingServices.size());
+        try {
+            Map<Service, CompletableFuture<Void>> launches = new HashMap<>();
+            while (!pendingServices.isEmpty() && launches.values().stream().noneMatch(this::isFailed)) {
+                Iterator<Service> iterator = pendingServices.iterator();
+                while (iterator.hasNext()) {
+                    Service service = iterator.next();
+                    if (graph.getDependencies(service).stream().map(launches::get).allMatch(this::isSucceeded)) {
+                        iterator.remove();
+                        CompletableFuture<Void> launch = CompletableFuture.completedFuture(null);
+                        if (isStartedOnLaunch(service)) {
+                            notifyLaunch(service);
+                            launch = CompletableFuture.runAsync(service::start, executor);
+                        }
+
+                        launches.put(service, launch);
+                    }
+                }
+
+                awaitAny(launches.values());
+            }
+
+            join(launches.values());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void awaitAny(Collection<CompletableFuture<Void>> futures) {
+        CompletableFuture<?>[] running = futures.stream().filter(future -> !future.isDone())
+                .toArray(CompletableFuture[]::new);
+        if (running.length > 0) {
+            try {
+                CompletableFuture.anyOf(running).join();
+            } catch (CompletionException ignored) {
+                // the failure is propagated when joining all the futures
+            }
+        }
+    }
+
+    private boolean isSucceeded(CompletableFuture<Void> future) {
+        return future != null && future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    private boolean isFailed(CompletableFuture<Void> future) {
+        return future.isCompletedExceptionally();
+    }
+
+    private void closeServices() {
+        List<Service> servicesToFinish = services.stream().map(ServiceContext::getOwner)
+                .filter(s -> !sharedServices.contains(s)).collect(Collectors.toList());
+        if (servicesToFinish.isEmpty()) {
+            return;
+        }
+
+        // the services are closed here, so JUnit must not close these again without the shutdown timeout
+        servicesToFinish.forEach(service -> context.getTestStore().remove(service.getName()));
+
+        List<List<Service>> layers = new ServiceDependencyGraph(servicesToFinish).getLayers();
+        Collections.reverse(layers);
+        // services in the same layer don't depend on each other, so these can be stopped at the same time
+        int maxLayerSize = layers.stream().mapToInt(List::size).max().orElse(1);
+        ExecutorService executor = context.getConfiguration().isParallelServiceStartEnabled()
+                ? newExecutor(maxLayerSize) : Executors.newSingleThreadExecutor();
+        long deadline = System.nanoTime() + context.getConfiguration().getShutdownTimeout().toNanos();
+        boolean forced = false;
+        try {
+            for (List<Service> layer : layers) {
+                Collections.reverse(layer);
+                List<CompletableFuture<Void>> futures = layer.stream()
+                        .map(service -> CompletableFuture.runAsync(service::close, executor))
+                        .collect(Collectors.toList());
+                CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+                if (!awaitUntil(all, deadline) && !forced) {
+                    Log.warn("Services were not stopped within the shutdown timeout of %s",
+                            context.getConfiguration().getShutdownTimeout());
+                    ProcessUtils.destroyAllForcibly(context.getId());
+                    forced = true;
+                    // a single grace period for all the remaining services
+                    deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(FORCED_SHUTDOWN_GRACE_SECONDS);
+                    awaitUntil(all, deadline);
+                }
+
+                if (!all.isDone()) {
+                    // the next services might still be used by the services that are running
+                    Log.warn("Some services could not be stopped in time, so these might still be running");
+                    return;
+                }
+
+                join(futures);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean awaitUntil(CompletableFuture<Void> future, long deadline) {
+        try {
+            future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException | ExecutionException ignored) {
+            // the caller checks whether the future is done, and the failures are propagated when joining it
+        }
+
+        return future.isDone();
+    }
+
+    private ExecutorService newExecutor(int tasks) {
+        return Executors
+                .newFixedThreadPool(Math.min(tasks, context.getConfiguration().getParallelServiceStartThreads()));
+    }
+
+    private void join(Collection<CompletableFuture<Void>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            } else if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+
+            throw ex;
+        }
+    }
+
+    private void validateDependencies(List<Service> pendingServices) {
+        for (Service service : pendingServices) {
+            for (String dependency : service.getDependencies()) {
+                if (services.stream().noneMatch(s -> dependency.equals(s.getName()))) {
+                    throw new RuntimeException(
+                            "Service " + service.getName() + " depends on an unknown service: " + dependency);
+                }
+            }
+        }
+    }
+
+    void testOnError(Throwable throwable) {
+        // mark test suite as failed
+        context.markTestSuiteAsFailed();
+        // notify extensions
+        extensions.forEach(ext -> ext.onError(context, throwable));
+    }
+
+    private void initResourceFromField(ExtensionContext context, Field field) {
+        if (field.isAnnotationPresent(LookupService.class)) {
+            initLookupService(context, field);
+        } else if (Service.class.isAssignableFrom(field.getType())) {
+            Service service = ReflectionUtils.getFieldValue(findTestInstance(context, field), field);
+            initService(service, field.getName(), field.getAnnotations());
+        } else if (field.isAnnotationPresent(Inject.class)) {
+            injectDependency(context, field);
+        }
+    }
+
+    private void initServiceFromAnnotation(Annotation annotation) {
+        getAnnotationBinding(annotation).ifPresent(binding -> initService(binding.getDefaultServiceImplementation(),
+                binding.getDefaultName(annotation), binding, annotation));
+    }
+
+    private void stopServiceFromField(ExtensionContext context, Field field) {
+        if (Service.class.isAssignableFrom(field.getType())) {
+            Service service = ReflectionUtils.getFieldValue(findTestInstance(context, field), field);
+            if (sharedServices.contains(service)) {
+                return;
+            }
+
+            service.stop();
+            services.removeIf(s -> service.getName().equals(s.getName()));
+        }
+    }
+
+    private void injectDependency(ExtensionContext testContext, Field field) {
+        Object fieldValue = null;
+        if (JesterContext.class.equals(field.getType())) {
+            fieldValue = context;
+        } else if (isParameterSupported(field.getType())) {
+            fieldValue = getParameter(new DependencyContext(field.getName(), field.getType(), field.getAnnotations()));
+        }
+
+        if (fieldValue != null) {
+            ReflectionUtils.setFieldValue(findTestInstance(testContext, field), field, fieldValue);
+        }
+    }
+
+    private void initService(Service service, String name, Annotation... annotations) {
+        AnnotationBinding binding = getAnnotationBinding(annotations)
+                .orElseThrow(() -> new RuntimeException("Unknown annotation for service"));
+        initService(service, name, binding, annotations);
+    }
+
+    private void initService(Service service, String name, AnnotationBinding binding, Annotation... annotations) {
+        if (service.isRunning() || servicesToLaunch.contains(service)) {
+            return;
+        }
+
+        // Validate
+        service.validate(binding, annotations);
+
+        // Reuse the service if it was already initialized by another test class
+        String sharedKey = null;
+        if (isSharedService(service, annotations)) {
+            sharedKey = getSharedServiceKey(service, name, annotations);
+            Optional<Service> sharedService = SharedServices.getOrCreate(context).find(sharedKey);
+            if (sharedService.isPresent()) {
+                attachToSharedService(service, name, sharedService.get());
+                return;
+            }
+        }
+
+        // Resolve managed resource
+        long resolveStart = System.nanoTime();
+        ManagedResource resource = getManagedResource(name, service, binding, annotations);
+        long resolveNanos = System.nanoTime() - resolveStart;
+
+        // Initialize it
+        findAnnotation(annotations, DependsOn.class).ifPresent(dependsOn -> service.dependsOn(dependsOn.value()));
+        ServiceContext serviceContext = service.register(name, context);
+        serviceContext.setLauncher(() -> startService(service));
+        serviceContext.getTimings().record(LifecyclePhase.RESOLVE, resolveNanos);
+        service.init(resource);
+        services.add(serviceContext);
+        if (sharedKey != null && SharedServices.getOrCreate(context).register(sharedKey, service)) {
+            markAsShared(serviceContext);
+        }
+
+        extensions.forEach(ext -> ext.updateServiceContext(serviceContext));
+        // services will be launched once all of them are initialized to honour the dependencies between them
+        servicesToLaunch.add(service);
+    }
+
+    private void attachToSharedService(Service service, String name, Service sharedService) {
+        Log.debug(service, "Reusing shared service (%s)", sharedService.getDisplayName());
+        ServiceContext serviceContext = service.register(name, context);
+        serviceContext.setLauncher(() -> startService(service));
+        service.attachTo(sharedService);
+        services.add(serviceContext);
+        markAsShared(serviceContext);
+
+        extensions.forEach(ext -> ext.updateServiceContext(serviceContext));
+        servicesToLaunch.add(service);
+    }
+
+    private void markAsShared(ServiceContext serviceContext) {
+        serviceContext.setShared(true);
+        sharedServices.add(serviceContext.getOwner());
+        // shared services must not be closed when the test class finishes
+        context.getTestStore().remove(serviceContext.getName());
+    }
+
+    private boolean isSharedService(Service service, Annotation... annotations) {
+        if (findAnnotation(annotations, SharedService.class).isEmpty()) {
+            return false;
+        }
+
+        if (!service.supportsSharing()) {
+            Log.warn(service,
+                    "Service can't be shared because it uses supplied properties or hooks, so it won't be reused");
+            return false;
+        }
+
+        if (!extensions.stream().allMatch(ExtensionBootstrap::supportsSharedServices)) {
+            Log.warn(service, "Service can't be shared in the current environment");
+            return false;
+        }
+
+        return true;
+    }
+
+    private String getSharedServiceKey(Service service, String name, Annotation... annotations) {
+        String annotationsKey = Stream.of(annotations)
+                .filter(a -> !(a instanceof SharedService) && !(a instanceof DependsOn)).map(Annotation::toString)
+                .sorted().collect(Collectors.joining(","));
+        return service.getClass().getName() + "/" + name + "/" + annotationsKey + "/"
+                + new TreeMap<>(service.getProperties()) + "/" + getServiceConfigurationKey(name);
+    }
+
+    /**
+     * The services are configured by the `ts.services.<name>.*` properties and the configuration annotations of the
+     * test class, so the service can't be shared if these are different.
+     */
+    private String getServiceConfigurationKey(String name) {
+        String annotationsKey = Stream.of(context.getTestContext().getRequiredTestClass().getAnnotations())
+                .flatMap(this::unwrapRepeatedAnnotations).filter(a -> isConfigurationForService(a, name))
+                .map(Annotation::toString).sorted().collect(Collectors.joining(","));
+        return new TreeMap<>(ServiceConfigurationLoader.loadProperties(name)) + "/" + annotationsKey;
+    }
+
+    private Stream<Annotation> unwrapRepeatedAnnotations(Annotation annotation) {
+        try {
+            Method value = annotation.annotationType().getMethod("value");
+            if (value.getReturnType().isArray() && value.getReturnType().getComponentType().isAnnotation()) {
+                return Stream.of((Annotation[]) value.invoke(annotation));
+            }
+        } catch (ReflectiveOperationException ignored) {
+            // it's not a container of repeated annotations
+        }
+
+        return Stream.of(annotation);
+    }
+
+    private boolean isConfigurationForService(Annotation annotation, String name) {
+        try {
+            return name.equals(annotation.annotationType().getMethod("forService").invoke(annotation));
+        } catch (ReflectiveOperationException ignored) {
+            return false;
+        }
+    }
+
+    private <T extends Annotation> Optional<T> findAnnotation(Annotation[] annotations, Class<T> clazz) {
+        return Stream.of(annotations).filter(clazz::isInstance).map(clazz::cast).findFirst();
+    }
+
+    private Optional<AnnotationBinding> getAnnotationBinding(Annotation... annotations) {
+        return registry.findAnnotationBinding(annotations);
+    }
+
+    private ManagedResource getManagedResource(String name, Service service, AnnotationBinding binding,
+            Annotation... annotations) {
+        try {
+            return binding.getManagedResource(context, service, annotations);
+        } catch (Exception ex) {
+            throw new RuntimeException("Could not create the Managed Resource for " + name, ex);
+        }
+    }
+
+    private void initLookupService(ExtensionContext context, Field fieldToInject) {
+        Optional<Field> fieldService = TestClassModel.of(context).getLookupTarget(fieldToInject);
+        if (!fieldService.isPresent()) {
+            fail("Could not lookup service with name " + fieldToInject.getName());
+        }
+
+        Field field = fieldService.get();
+        Service service = ReflectionUtils.getFieldValue(findTestInstance(context, field), field);
+        initService(service, field.getName(), field.getAnnotations());
+        ReflectionUtils.setFieldValue(findTestInstance(context, fieldToInject), fieldToInject, service);
+    }
+
+    private boolean isParameterSupported(Class<?> paramType) {
+        return paramType.isAssignableFrom(JesterContext.class)
+                || extensions.stream().anyMatch(ext -> ext.supportedParameters().contains(paramType));
+    }
+
+    private Object getParameter(DependencyContext dependency) {
+        if (dependency.getType().isAssignableFrom(JesterContext.class)) {
+            return context;
+        }
+
+        Optional<Object> parameter = extensions.stream().map(ext -> ext.getParameter(dependency))
+                .filter(Optional::isPresent).map(Optional::get).findFirst();
+
+        if (!parameter.isPresent()) {
+            fail("Failed to inject: " + dependency.getName());
+        }
+
+        return parameter.get();
+    }
+
+    private List<ExtensionBootstrap> initExtensions() {
+        List<ExtensionBootstrap> list = new ArrayList<>();
+        for (ExtensionBootstrap binding : registry.createExtensions()) {
+            if (binding.appliesFor(context)) {
+                binding.updateContext(context);
+                list.add(binding);
+            }
+        }
+
+        return list;
+    }
+
+    private void deleteLogIfTestSuitePassed() {
+        if (!context.isFailed()) {
+            context.getLogFile().toFile().delete();
+        }
+    }
+
+    private boolean isClassLifecycle(ExtensionContext context) {
+        if (context.getTestInstanceLifecycle().isPresent()) {
+            return context.getTestInstanceLifecycle().get() == TestInstance.Lifecycle.PER_CLASS;
+        } else if (context.getParent().isPresent()) {
+            return isClassLifecycle(context.getParent().get());
+        }
+
+        return false;
+    }
+
+    private Optional<Object> findTestInstance(ExtensionContext context, Field field) {
+        Optional<TestInstances> testInstances = context.getTestInstances();
+        if (testInstances.isPresent()) {
+            return testInstances.get().findInstance((Class<Object>) field.getDeclaringClass());
+        }
+
+        return context.getTestInstance();
+    }
+}
@@ -0,0 +1,101 @@
+package io.jester.core;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import io.jester.api.LookupService;
+import io.jester.api.Service;
+import io.jester.utils.ReflectionUtils;
+
+/**
+ * The fields and annotations of a test class that are relevant for Jester. These are resolved only once per test class
+ * and reused by all the test methods, nested classes and parameterized invocations.
+ */
+final class TestClassModel {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TestClassModel.class);
+
+    private final List<Annotation> annotations;
+    private final List<Field> staticFields;
+    private final List<Field> instanceFields;
+    private final List<Field> instanceServiceFields;
+    private final Map<Field, Field> lookupTargets = new HashMap<>();
+
+    private TestClassModel(Class<?> testClass) {
+        this.annotations = List.copyOf(ReflectionUtils.findAllAnnotations(testClass));
+
+        List<Field> fields = ReflectionUtils.findAllFields(testClass).stream().filter(TestClassModel::isRelevant)
+                .collect(Collectors.toList());
+        fields.forEach(field -> field.setAccessible(true));
+        this.staticFields = fields.stream().filter(ReflectionUtils::isStatic).collect(Collectors.toUnmodifiableList());
+        this.instanceFields = fields.stream().filter(ReflectionUtils::isInstance)
+                .collect(Collectors.toUnmodifiableList());
+        this.instanceServiceFields = instanceFields.stream().filter(TestClassModel::isService)
+                .collect(Collectors.toUnmodifiableList());
+
+        for (Field field : fields) {
+            if (field.isAnnotationPresent(LookupService.class)) {
+                fields.stream()
+                        .filter(target -> target.getName().equals(field.getName())
+                                && !target.isAnnotationPresent(LookupService.class))
+                        .findAny().ifPresent(target -> lookupTargets.put(field, target));
+            }
+        }
+    }
+
+    /**
+     * @return the annotations of the test class, its super classes and its enclosing classes.
+     */
+    public List<Annotation> getAnnotations() {
+        return annotations;
+    }
+
+    /**
+     * @return the static fields that are services, lookup services or injection points.
+     */
+    public List<Field> getStaticFields() {
+        return staticFields;
+    }
+
+    /**
+     * @return the instance fields that are services, lookup services or injection points.
+     */
+    public List<Field> getInstanceFields() {
+        return instanceFields;
+    }
+
+    public List<Field> getInstanceServiceFields() {
+        return instanceServiceFields;
+    }
+
+    /**
+     * @return the service field that the field annotated with {@link LookupService} refers to.
+     */
+    public Optional<Field> getLookupTarget(Field lookupField) {
+        return Optional.ofNullable(lookupTargets.get(lookupField));
+    }
+
+    static TestClassModel of(ExtensionContext context) {
+        Class<?> testClass = context.getRequiredTestClass();
+        return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(testClass, TestClassModel::new,
+                TestClassModel.class);
+    }
+
+    private static boolean isRelevant(Field field) {
+        return field.isAnnotationPresent(LookupService.class) || isService(field)
+                || field.isAnnotationPresent(Inject.class);
+    }
+
+    private static boolean isService(Field field) {
+        return Service.class.isAssignableFrom(field.getType());
+    }
+}
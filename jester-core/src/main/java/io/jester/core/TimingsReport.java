@@ -0,0 +1,93 @@
+package io.jester.core;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import io.jester.logging.Log;
+import io.jester.utils.FileUtils;
+
+/**
+ * Writes the time spent by the services of a test class in every lifecycle phase into:
+ * <ul>
+ * <li>`target/timings/{test class}.json`: the timings of every service and the totals of the test class.</li>
+ * <li>`target/timings/timings.csv`: one row per test class, service and phase for all the test classes.</li>
+ * </ul>
+ */
+final class TimingsReport {
+
+    private static final Path TIMINGS_FOLDER = Path.of("target", "timings");
+    private static final Path CSV_REPORT = TIMINGS_FOLDER.resolve("timings.csv");
+    private static final String CSV_HEADER = "test_class,context_id,service,phase,millis\n";
+    private static final String JSON_SUFFIX = ".json";
+
+    private TimingsReport() {
+
+    }
+
+    static void write(JesterContext context, List<ServiceContext> services) {
+        try {
+            writeJson(context, services);
+            appendCsv(context, services);
+        } catch (Exception ex) {
+            Log.warn("Could not write the timings report. Caused by " + ex.getMessage());
+        }
+    }
+
+    private static void writeJson(JesterContext context, List<ServiceContext> services) {
+        Map<LifecyclePhase, Duration> totals = new EnumMap<>(LifecyclePhase.class);
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"testClass\": \"").append(context.getRunningTestClassName()).append("\",\n");
+        json.append("  \"contextId\": \"").append(context.getId()).append("\",\n");
+        json.append("  \"services\": [");
+        String separator = "\n";
+        for (ServiceContext service : services) {
+            Map<LifecyclePhase, Duration> durations = service.getTimings().getDurations();
+            durations.forEach((phase, duration) -> totals.merge(phase, duration, Duration::plus));
+            json.append(separator);
+            json.append("    {\"name\": \"").append(service.getName()).append("\", ");
+            json.append("\"phases\": ").append(toJson(durations)).append(", ");
+            json.append("\"total\": ").append(sum(durations).toMillis()).append("}");
+            separator = ",\n";
+        }
+
+        json.append("\n  ],\n");
+        json.append("  \"phases\": ").append(toJson(totals)).append(",\n");
+        json.append("  \"total\": ").append(sum(totals).toMillis()).append("\n");
+        json.append("}\n");
+
+        Path report = TIMINGS_FOLDER.resolve(context.getRunningTestClassName() + JSON_SUFFIX);
+        FileUtils.deletePath(report);
+        FileUtils.copyContentTo(json.toString(), report);
+    }
+
+    private static synchronized void appendCsv(JesterContext context, List<ServiceContext> services) {
+        StringBuilder csv = new StringBuilder();
+        if (!Files.exists(CSV_REPORT)) {
+            csv.append(CSV_HEADER);
+        }
+
+        for (ServiceContext service : services) {
+            service.getTimings().getDurations()
+                    .forEach((phase, duration) -> csv.append(context.getRunningTestClassName()).append(",")
+                            .append(context.getId()).append(",").append(service.getName()).append(",")
+                            .append(phase.getName()).append(",").append(duration.toMillis()).append("\n"));
+        }
+
+        FileUtils.copyContentTo(csv.toString(), CSV_REPORT);
+    }
+
+    private static String toJson(Map<LifecyclePhase, Duration> durations) {
+        return durations.entrySet().stream().map(e -> "\"" + e.getKey().getName() + "\": " + e.getValue().toMillis())
+                .collect(Collectors.joining(", ", "{", "}"));
+    }
+
+    private static Duration sum(Map<LifecyclePhase, Duration> durations) {
+        return durations.values().stream().reduce(Duration.ZERO, Duration::plus);
+    }
+}
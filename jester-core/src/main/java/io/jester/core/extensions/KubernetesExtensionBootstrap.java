@@ -45,7 +45,7 @@ public class KubernetesExtensionBootstrap implements ExtensionBootstrap {
         context.setDebug(!configuration.isDeleteNamespaceAfterAll() && !configuration.isEphemeralNamespaceEnabled());
 
         if (configuration.isEphemeralNamespaceEnabled()) {
-            client = KubectlClient.createClientUsingANewNamespace();
+            client = KubectlClient.createClientUsingPooledNamespace(configuration.getEphemeralNamespacesPoolSize());
         } else {
             client = KubectlClient.createClientUsingCurrentNamespace();
         }
@@ -61,8 +61,10 @@ public class KubernetesExtensionBootstrap implements ExtensionBootstrap {
     public void afterAll(JesterContext context) {
         KubernetesConfiguration configuration = context.getConfigurationAs(KubernetesConfiguration.class);
         if (configuration.isDeleteNamespaceAfterAll()) {
-            if (configuration.isEphemeralNamespaceEnabled()) {
-                client.deleteNamespace();
+            if (configuration.isEphemeralNamespaceEnabled() && configuration.isReuseEphemeralNamespaces()) {
+                client.releaseNamespace(context.getId());
+            } else if (configuration.isEphemeralNamespaceEnabled()) {
+                client.deleteNamespaceInBackground();
             } else {
                 client.deleteResourcesInJesterContext(context.getId());
             }
@@ -74,6 +76,12 @@ public class KubernetesExtensionBootstrap implements ExtensionBootstrap {
         context.put(CLIENT, client);
     }
 
+    @Override
+    public boolean supportsSharedServices() {
+        // the namespace is deleted after each test class
+        return false;
+    }
+
     @Override
     public List<Class<?>> supportedParameters() {
         return Arrays.asList(KubectlClient.class, KubernetesClient.class, Deployment.class,
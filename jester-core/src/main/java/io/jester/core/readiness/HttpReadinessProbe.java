@@ -0,0 +1,40 @@
+package io.jester.core.readiness;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.jester.api.ReadinessProbe;
+import io.jester.core.ManagedResource;
+
+public final class HttpReadinessProbe implements ReadinessProbe {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+    private static final String SLASH = "/";
+    private static final int HTTP_OK_MIN = 200;
+    private static final int HTTP_OK_MAX = 299;
+    private static final HttpClient CLIENT = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+
+    private final String path;
+
+    HttpReadinessProbe(String path) {
+        this.path = StringUtils.prependIfMissing(path, SLASH);
+    }
+
+    @Override
+    public boolean isReady(ManagedResource resource) throws Exception {
+        URI uri = URI.create(String.format("http://%s:%s%s", resource.getHost(), resource.getFirstMappedPort(), path));
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(TIMEOUT).GET().build();
+        int status = CLIENT.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        return status >= HTTP_OK_MIN && status <= HTTP_OK_MAX;
+    }
+
+    @Override
+    public String toString() {
+        return "http:" + path;
+    }
+}
@@ -0,0 +1,36 @@
+package io.jester.core.readiness;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.jester.api.ReadinessProbe;
+import io.jester.core.ManagedResource;
+
+public final class JdbcReadinessProbe implements ReadinessProbe {
+
+    private static final int TIMEOUT_IN_SECONDS = 1;
+
+    private final Function<ManagedResource, String> jdbcUrl;
+    private final Supplier<String> user;
+    private final Supplier<String> password;
+
+    JdbcReadinessProbe(Function<ManagedResource, String> jdbcUrl, Supplier<String> user, Supplier<String> password) {
+        this.jdbcUrl = jdbcUrl;
+        this.user = user;
+        this.password = password;
+    }
+
+    @Override
+    public boolean isReady(ManagedResource resource) throws Exception {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl.apply(resource), user.get(), password.get())) {
+            return connection.isValid(TIMEOUT_IN_SECONDS);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "jdbc";
+    }
+}
@@ -0,0 +1,25 @@
+package io.jester.core.readiness;
+
+import java.util.regex.Pattern;
+
+import io.jester.api.ReadinessProbe;
+import io.jester.core.ManagedResource;
+
+public final class LogReadinessProbe implements ReadinessProbe {
+
+    private final Pattern pattern;
+
+    LogReadinessProbe(String regex) {
+        this.pattern = Pattern.compile(regex);
+    }
+
+    @Override
+    public boolean isReady(ManagedResource resource) {
+        return resource.logs().stream().anyMatch(line -> pattern.matcher(line).find());
+    }
+
+    @Override
+    public String toString() {
+        return "log:" + pattern;
+    }
+}
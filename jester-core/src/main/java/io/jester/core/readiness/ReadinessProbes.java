@@ -0,0 +1,68 @@
+package io.jester.core.readiness;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.jester.api.ReadinessProbe;
+import io.jester.core.ManagedResource;
+
+public final class ReadinessProbes {
+
+    private static final String SEPARATOR = ":";
+    private static final String HTTP = "http";
+    private static final String TCP = "tcp";
+    private static final String LOG = "log";
+
+    private ReadinessProbes() {
+
+    }
+
+    /**
+     * The resource is ready when the path returns a successful status code using the first mapped port.
+     */
+    public static ReadinessProbe http(String path) {
+        return new HttpReadinessProbe(path);
+    }
+
+    /**
+     * The resource is ready when the first mapped port accepts connections.
+     */
+    public static ReadinessProbe tcp() {
+        return new TcpReadinessProbe();
+    }
+
+    /**
+     * The resource is ready when a log line matches the regular expression.
+     */
+    public static ReadinessProbe log(String regex) {
+        return new LogReadinessProbe(regex);
+    }
+
+    /**
+     * The resource is ready when a valid JDBC connection can be opened.
+     */
+    public static ReadinessProbe jdbc(Function<ManagedResource, String> jdbcUrl, Supplier<String> user,
+            Supplier<String> password) {
+        return new JdbcReadinessProbe(jdbcUrl, user, password);
+    }
+
+    /**
+     * Create a readiness probe from its definition. Possible values are: "tcp", "http:<path>" and "log:<regex>".
+     */
+    public static ReadinessProbe parse(String definition) {
+        String type = StringUtils.substringBefore(definition, SEPARATOR).trim();
+        String value = StringUtils.substringAfter(definition, SEPARATOR).trim();
+        if (TCP.equalsIgnoreCase(type)) {
+            return tcp();
+        } else if (HTTP.equalsIgnoreCase(type) && StringUtils.isNotEmpty(value)) {
+            return http(value);
+        } else if (LOG.equalsIgnoreCase(type) && StringUtils.isNotEmpty(value)) {
+            return log(value);
+        }
+
+        throw new RuntimeException("Unsupported readiness probe: " + definition
+                + ". Possible values are: 'tcp', 'http:<path>' and 'log:<regex>'");
+    }
+}
@@ -0,0 +1,32 @@
+package io.jester.core.readiness;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+import io.jester.api.ReadinessProbe;
+import io.jester.core.ManagedResource;
+
+public final class TcpReadinessProbe implements ReadinessProbe {
+
+    private static final int TIMEOUT_IN_MILLIS = 1000;
+
+    TcpReadinessProbe() {
+
+    }
+
+    @Override
+    public boolean isReady(ManagedResource resource) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(resource.getHost(), resource.getFirstMappedPort()), TIMEOUT_IN_MILLIS);
+            return true;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "tcp";
+    }
+}
@@ -0,0 +1,102 @@
+package io.jester.logging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Find whether a text contains any of the given literals using the Aho-Corasick algorithm, so the text is read only
+ * once regardless of the number of literals.
+ */
+final class AhoCorasickMatcher {
+
+    private static final int ROOT = 0;
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> failures = new ArrayList<>();
+    private final List<Boolean> terminals = new ArrayList<>();
+
+    AhoCorasickMatcher(Collection<String> literals) {
+        addNode();
+        for (String literal : literals) {
+            addLiteral(literal);
+        }
+
+        computeFailures();
+    }
+
+    boolean containsAny(CharSequence text) {
+        if (terminals.get(ROOT)) {
+            // an empty literal matches any text
+            return true;
+        }
+
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            while (state != ROOT && !transitions.get(state).containsKey(current)) {
+                state = failures.get(state);
+            }
+
+            state = transitions.get(state).getOrDefault(current, ROOT);
+            if (terminals.get(state)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void addLiteral(String literal) {
+        int state = ROOT;
+        for (int i = 0; i < literal.length(); i++) {
+            char current = literal.charAt(i);
+            Integer next = transitions.get(state).get(current);
+            if (next == null) {
+                next = addNode();
+                transitions.get(state).put(current, next);
+            }
+
+            state = next;
+        }
+
+        terminals.set(state, true);
+    }
+
+    private void computeFailures() {
+        Queue<Integer> pending = new ArrayDeque<>();
+        for (int child : transitions.get(ROOT).values()) {
+            failures.set(child, ROOT);
+            pending.add(child);
+        }
+
+        while (!pending.isEmpty()) {
+            int state = pending.poll();
+            for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                char current = transition.getKey();
+                int child = transition.getValue();
+                int failure = failures.get(state);
+                while (failure != ROOT && !transitions.get(failure).containsKey(current)) {
+                    failure = failures.get(failure);
+                }
+
+                int childFailure = transitions.get(failure).getOrDefault(current, ROOT);
+                failures.set(child, childFailure == child ? ROOT : childFailure);
+                // a state is terminal if any of its suffixes is a literal
+                terminals.set(child, terminals.get(child) || terminals.get(failures.get(child)));
+                pending.add(child);
+            }
+        }
+    }
+
+    private int addNode() {
+        transitions.add(new HashMap<>());
+        failures.add(ROOT);
+        terminals.add(false);
+        return transitions.size() - 1;
+    }
+}
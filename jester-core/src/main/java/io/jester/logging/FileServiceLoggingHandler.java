@@ -2,40 +2,35 @@ package io.jester.logging;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
-import java.util.List;
 
 import io.jester.api.Service;
-import io.jester.utils.FileUtils;
 
 public class FileServiceLoggingHandler extends ServiceLoggingHandler {
 
-    private final File file;
-    private String printedContent;
+    private final FileTailer tailer;
 
     public FileServiceLoggingHandler(Service context, File input) {
         super(context);
-        this.file = input;
+        this.tailer = new FileTailer(input);
     }
 
+    /**
+     * The process might have finished without writing the end of the last line, so it's not kept pending.
+     */
     @Override
-    protected synchronized void handle() {
-        if (file.exists()) {
-            String newContent = FileUtils.loadFile(file);
-            onStringDifference(newContent, printedContent);
-            printedContent = newContent;
+    public void stopWatching() {
+        super.stopWatching();
+        synchronized (this) {
+            tailer.flushPendingLine(this::onLine);
         }
     }
 
     @Override
-    public List<String> logs() {
+    protected void handle() {
         try {
-            return Files.readAllLines(file.toPath(), Charset.defaultCharset());
+            tailer.readNewLines(this::onLine);
         } catch (IOException e) {
-            Log.warn("Exception reading file log file", e);
-            // Fallback to default implementation:
-            return super.logs();
+            throw new RuntimeException("Exception reading log file", e);
         }
     }
 }
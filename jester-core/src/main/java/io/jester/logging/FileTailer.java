@@ -0,0 +1,122 @@
+package io.jester.logging;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Read the lines that are appended to a file from the last read position. Incomplete lines are kept until the end of
+ * line is written, or until these are flushed (see {@link #flushPendingLine}), and empty lines are skipped. If the file
+ * is truncated or replaced by a new file, it's read again from the beginning.
+ */
+final class FileTailer {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char NEW_LINE = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+
+    private final Path file;
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final StringBuilder currentLine = new StringBuilder();
+
+    private long position;
+    private Object fileKey;
+
+    FileTailer(File file) {
+        this.file = file.toPath();
+    }
+
+    /**
+     * Read the complete lines that were appended since the last read.
+     */
+    synchronized void readNewLines(Consumer<String> onLine) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        if (attributes.size() < position || !Objects.equals(attributes.fileKey(), fileKey)) {
+            // the file was truncated or rotated
+            reset(attributes.fileKey());
+        }
+
+        if (attributes.size() == position) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.position(position);
+            while (channel.read(bytes) > 0) {
+                position = channel.position();
+                bytes.flip();
+                decoder.decode(bytes, chars, false);
+                // keep the bytes of incomplete characters for the next read
+                bytes.compact();
+                chars.flip();
+                consumeLines(onLine);
+                chars.clear();
+            }
+        }
+    }
+
+    /**
+     * Emit the last line even if its end of line was not written yet, for example, when the process has finished.
+     */
+    synchronized void flushPendingLine(Consumer<String> onLine) {
+        bytes.flip();
+        decoder.decode(bytes, chars, true);
+        decoder.flush(chars);
+        bytes.clear();
+        chars.flip();
+        consumeLines(onLine);
+        chars.clear();
+        decoder.reset();
+        emitCurrentLine(onLine);
+    }
+
+    private void consumeLines(Consumer<String> onLine) {
+        while (chars.hasRemaining()) {
+            char current = chars.get();
+            if (current == NEW_LINE) {
+                emitCurrentLine(onLine);
+            } else {
+                currentLine.append(current);
+            }
+        }
+    }
+
+    private void emitCurrentLine(Consumer<String> onLine) {
+        int length = currentLine.length();
+        if (length > 0 && currentLine.charAt(length - 1) == CARRIAGE_RETURN) {
+            currentLine.setLength(length - 1);
+        }
+
+        if (currentLine.length() > 0) {
+            onLine.accept(currentLine.toString());
+            currentLine.setLength(0);
+        }
+    }
+
+    private void reset(Object newFileKey) {
+        position = 0;
+        fileKey = newFileKey;
+        bytes.clear();
+        chars.clear();
+        decoder.reset();
+        currentLine.setLength(0);
+    }
+}
@@ -1,7 +1,7 @@
 package io.jester.logging;
 
-import java.util.Map;
-import java.util.Map.Entry;
+import java.io.Closeable;
+import java.io.IOException;
 
 import io.jester.api.Service;
 import io.jester.api.clients.KubectlClient;
@@ -13,7 +13,8 @@ public class KubernetesLoggingHandler extends ServiceLoggingHandler {
     private final KubectlClient client;
     private final Service service;
 
-    private Map<String, String> oldLogs;
+    private Closeable logsFollower;
+    private boolean stopped;
 
     public KubernetesLoggingHandler(ServiceContext context) {
         super(context.getOwner());
@@ -23,29 +24,39 @@ public class KubernetesLoggingHandler extends ServiceLoggingHandler {
     }
 
     @Override
-    protected synchronized void handle() {
-        Map<String, String> newLogs = client.logs(service);
-        for (Entry<String, String> entry : newLogs.entrySet()) {
-            onMapDifference(entry);
-        }
-
-        oldLogs = newLogs;
+    public synchronized void startWatching() {
+        stopped = false;
+        super.startWatching();
     }
 
-    private void onMapDifference(Entry<String, String> entry) {
-        String newPodLogs = formatPodLogs(entry.getKey(), entry.getValue());
-
-        if (oldLogs != null && oldLogs.containsKey(entry.getKey())) {
-            String oldPodLogs = formatPodLogs(entry.getKey(), oldLogs.get(entry.getKey()));
+    @Override
+    public synchronized void stopWatching() {
+        super.stopWatching();
+        stopped = true;
+        if (logsFollower != null) {
+            try {
+                logsFollower.close();
+            } catch (IOException ex) {
+                Log.warn(service, "Could not stop following the logs. Caused by " + ex.getMessage());
+            }
+
+            logsFollower = null;
+        }
+    }
 
-            onStringDifference(newPodLogs, oldPodLogs);
-        } else {
-            onLines(newPodLogs);
+    @Override
+    protected synchronized void handle() {
+        // the logs are streamed, so we only need to start following them
+        if (logsFollower == null && !stopped) {
+            logsFollower = client.followLogs(service, this::onPodLine);
         }
     }
 
-    private String formatPodLogs(String podName, String log) {
-        return String.format("[%s] %s", podName, log);
+    private void onPodLine(String podName, String line) {
+        if (!line.isEmpty()) {
+            onLine(String.format("[%s] %s", podName, line));
+            client.signalChange();
+        }
     }
 
 }
@@ -6,10 +6,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -46,7 +46,9 @@ public final class Log {
     private static final Random RND = new Random();
     private static final Logger LOG = Logger.getLogger(Log.class.getName());
 
-    private static final Map<String, String> SERVICE_COLOR_MAPPING = new HashMap<>();
+    private static final Map<String, String> SERVICE_COLOR_MAPPING = new ConcurrentHashMap<>();
+
+    private static boolean configured;
 
     private Log() {
 
@@ -92,7 +94,13 @@ public final class Log {
         log(NO_SERVICE, Level.SEVERE, msg, args);
     }
 
-    public static void configure() {
+    public static synchronized void configure() {
+        if (configured) {
+            // the handlers are global, so these are configured only once even when test classes run in parallel
+            return;
+        }
+
+        configured = true;
         // Configure Log Manager
         try (InputStream in = JesterExtension.class.getResourceAsStream("/jester-logging.properties")) {
             LogManager.getLogManager().readConfiguration(in);
@@ -152,7 +160,7 @@ public final class Log {
         return service.getConfiguration().getLogLevel().intValue() <= level.intValue();
     }
 
-    private static synchronized String findColorForText(Level level, Service service) {
+    private static String findColorForText(Level level, Service service) {
         String textColor = findColorForService(service);
         if (level == Level.SEVERE) {
             textColor = COLOR_SEVERE;
@@ -163,28 +171,26 @@ public final class Log {
         return textColor;
     }
 
-    private static synchronized String findColorForService(Service service) {
-        if (service == null) {
+    private static String findColorForService(Service service) {
+        if (service == null || service.getName() == null) {
             return COLOR_DEFAULT;
         }
 
-        String color = SERVICE_COLOR_MAPPING.get(service.getName());
-        if (color == null) {
-            if (UNUSED_SERVICE_COLORS.isEmpty()) {
-                // reset if no more available service colors
-                UNUSED_SERVICE_COLORS.addAll(ALL_SERVICE_COLORS);
-            }
+        return SERVICE_COLOR_MAPPING.computeIfAbsent(service.getName(), name -> nextServiceColor());
+    }
 
-            int colorIdx = 0;
-            if (UNUSED_SERVICE_COLORS.size() > 1) {
-                colorIdx = RND.nextInt(UNUSED_SERVICE_COLORS.size() - 1);
-            }
+    private static synchronized String nextServiceColor() {
+        if (UNUSED_SERVICE_COLORS.isEmpty()) {
+            // reset if no more available service colors
+            UNUSED_SERVICE_COLORS.addAll(ALL_SERVICE_COLORS);
+        }
 
-            color = UNUSED_SERVICE_COLORS.remove(colorIdx);
-            SERVICE_COLOR_MAPPING.put(service.getName(), color);
+        int colorIdx = 0;
+        if (UNUSED_SERVICE_COLORS.size() > 1) {
+            colorIdx = RND.nextInt(UNUSED_SERVICE_COLORS.size() - 1);
         }
 
-        return color;
+        return UNUSED_SERVICE_COLORS.remove(colorIdx);
     }
 
     private static String inBrackets(Service service) {
@@ -0,0 +1,58 @@
+package io.jester.logging;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Check whether the logs contain any of the expected values, either as a literal or as a regular expression. The
+ * expected values are compiled only once, and only the lines appended since the previous check are read.
+ */
+final class LogMatcher {
+
+    private static final String REGEX_SPECIAL_CHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final AhoCorasickMatcher literals;
+    private final List<Pattern> patterns = new ArrayList<>();
+
+    private int cursor;
+    private boolean matched;
+
+    LogMatcher(Collection<String> expected) {
+        this.literals = new AhoCorasickMatcher(expected);
+        for (String value : expected) {
+            if (isRegularExpression(value)) {
+                try {
+                    patterns.add(Pattern.compile(value));
+                } catch (PatternSyntaxException ignored) {
+                    // then, it's only checked as literal
+                }
+            }
+        }
+    }
+
+    synchronized boolean matches(List<String> logs) {
+        if (logs.size() < cursor) {
+            // the logs were cleared, for example, because the service was restarted
+            cursor = 0;
+            matched = false;
+        }
+
+        while (!matched && cursor < logs.size()) {
+            matched = matches(logs.get(cursor));
+            cursor++;
+        }
+
+        return matched;
+    }
+
+    private boolean matches(String line) {
+        return literals.containsAny(line) || patterns.stream().anyMatch(pattern -> pattern.matcher(line).find());
+    }
+
+    private static boolean isRegularExpression(String value) {
+        return value.chars().anyMatch(c -> REGEX_SPECIAL_CHARACTERS.indexOf(c) >= 0);
+    }
+}
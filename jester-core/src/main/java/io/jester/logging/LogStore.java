@@ -0,0 +1,233 @@
+package io.jester.logging;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Append-only store of log lines. The lines are kept in chunks, so appending a line doesn't copy the previous lines,
+ * and the snapshots only copy the references to the chunks. When a spill folder is provided, only the most recent lines
+ * are kept in memory and the older chunks are written into a file within the spill folder. The spill file is kept open
+ * until the store is discarded, so the spilled lines can still be read if the spill folder is deleted in the meantime.
+ */
+public final class LogStore {
+
+    private static final int CHUNK_SIZE = 1024;
+    private static final String SPILL_FILE_PREFIX = "logs-";
+    private static final String SPILL_FILE_SUFFIX = ".spill";
+
+    private final int maxChunksInMemory;
+    private final Path spillFolder;
+    private final List<String[]> chunks = new ArrayList<>();
+    private final List<Long> spilledChunkOffsets = new ArrayList<>();
+
+    private Path spillFile;
+    private FileChannel spillChannel;
+    private boolean spillFailed;
+    private long spilledBytes;
+    private int spilledChunks;
+    private int size;
+
+    /**
+     * Store all the lines in memory.
+     */
+    public LogStore() {
+        this(Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Store up to the max lines in memory (rounded up to chunks of 1024 lines) and spill the older lines into a file
+     * within the temporary folder.
+     */
+    public LogStore(int maxLinesInMemory) {
+        this(maxLinesInMemory, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Store up to the max lines in memory (rounded up to chunks of 1024 lines) and spill the older lines into a file
+     * within the spill folder.
+     */
+    public LogStore(int maxLinesInMemory, Path spillFolder) {
+        this.maxChunksInMemory = spillFolder == null ? Integer.MAX_VALUE
+                : Math.max(1, (int) Math.ceil((double) maxLinesInMemory / CHUNK_SIZE));
+        this.spillFolder = spillFolder;
+    }
+
+    public synchronized void append(String line) {
+        int position = size % CHUNK_SIZE;
+        if (position == 0) {
+            chunks.add(new String[CHUNK_SIZE]);
+        }
+
+        chunks.get(chunks.size() - 1)[position] = line;
+        size++;
+
+        if (chunks.size() > maxChunksInMemory && !spillFailed) {
+            spillOldestChunk();
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return an immutable view of the lines that have been appended so far.
+     */
+    public synchronized List<String> snapshot() {
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+
+        return new Snapshot(size, spilledChunks, new ArrayList<>(chunks), new ArrayList<>(spilledChunkOffsets),
+                spilledBytes, spillFile, spillChannel);
+    }
+
+    /**
+     * Delete the spilled lines. Neither the store nor its snapshots can be used afterwards.
+     */
+    public synchronized void discard() {
+        if (spillChannel == null) {
+            return;
+        }
+
+        try {
+            spillChannel.close();
+            Files.deleteIfExists(spillFile);
+        } catch (IOException ex) {
+            Log.warn("Could not delete the spilled logs " + spillFile + ". Caused by " + ex.getMessage());
+        }
+
+        spillChannel = null;
+    }
+
+    private void spillOldestChunk() {
+        try {
+            if (spillChannel == null) {
+                Files.createDirectories(spillFolder);
+                spillFile = Files.createTempFile(spillFolder, SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX);
+                spillFile.toFile().deleteOnExit();
+                spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+
+            // lines are prefixed by their length in the spill file, so these can contain new lines
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(content);
+            for (String line : chunks.get(0)) {
+                byte[] lineBytes = line.getBytes(StandardCharsets.UTF_8);
+                output.writeInt(lineBytes.length);
+                output.write(lineBytes);
+            }
+
+            ByteBuffer bytes = ByteBuffer.wrap(content.toByteArray());
+            int length = bytes.remaining();
+            while (bytes.hasRemaining()) {
+                spillChannel.write(bytes, spilledBytes + length - bytes.remaining());
+            }
+
+            spilledChunkOffsets.add(spilledBytes);
+            spilledBytes += length;
+            spilledChunks++;
+            chunks.remove(0);
+        } catch (IOException ex) {
+            spillFailed = true;
+            Log.warn("Could not spill logs into " + spillFolder + ". Keeping all the logs in memory. Caused by "
+                    + ex.getMessage());
+        }
+    }
+
+    private static final class Snapshot extends AbstractList<String> implements RandomAccess {
+
+        private final int size;
+        private final int spilledChunks;
+        private final List<String[]> chunks;
+        private final List<Long> spilledChunkOffsets;
+        private final long spilledBytes;
+        private final Path spillFile;
+        private final FileChannel spillChannel;
+
+        private int loadedChunkIndex = -1;
+        private String[] loadedChunk;
+
+        Snapshot(int size, int spilledChunks, List<String[]> chunks, List<Long> spilledChunkOffsets, long spilledBytes,
+                Path spillFile, FileChannel spillChannel) {
+            this.size = size;
+            this.spilledChunks = spilledChunks;
+            this.chunks = chunks;
+            this.spilledChunkOffsets = spilledChunkOffsets;
+            this.spilledBytes = spilledBytes;
+            this.spillFile = spillFile;
+            this.spillChannel = spillChannel;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+
+            int chunkIndex = index / CHUNK_SIZE;
+            int position = index % CHUNK_SIZE;
+            if (chunkIndex >= spilledChunks) {
+                return chunks.get(chunkIndex - spilledChunks)[position];
+            }
+
+            return loadSpilledChunk(chunkIndex)[position];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        private synchronized String[] loadSpilledChunk(int chunkIndex) {
+            if (loadedChunkIndex != chunkIndex) {
+                long start = spilledChunkOffsets.get(chunkIndex);
+                long end = chunkIndex + 1 < spilledChunks ? spilledChunkOffsets.get(chunkIndex + 1) : spilledBytes;
+                ByteBuffer content = ByteBuffer.allocate((int) (end - start));
+                try {
+                    while (content.hasRemaining()) {
+                        if (spillChannel.read(content, start + content.position()) < 0) {
+                            throw new IOException("Unexpected end of file");
+                        }
+                    }
+                } catch (IOException ex) {
+                    throw new RuntimeException("Could not read the logs from " + spillFile, ex);
+                }
+
+                loadedChunk = decodeChunk(content.array());
+                loadedChunkIndex = chunkIndex;
+            }
+
+            return loadedChunk;
+        }
+
+        private String[] decodeChunk(byte[] content) {
+            String[] lines = new String[CHUNK_SIZE];
+            try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(content))) {
+                for (int position = 0; position < CHUNK_SIZE; position++) {
+                    byte[] lineBytes = new byte[input.readInt()];
+                    input.readFully(lineBytes);
+                    lines[position] = new String(lineBytes, StandardCharsets.UTF_8);
+                }
+            } catch (IOException ex) {
+                throw new RuntimeException("Could not read the logs from " + spillFile, ex);
+            }
+
+            return lines;
+        }
+    }
+}
@@ -1,58 +1,140 @@
 package io.jester.logging;
 
 import java.io.Closeable;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 
 import io.jester.utils.AwaitilityUtils;
+import io.jester.utils.IoScheduler;
 
 public abstract class LoggingHandler implements Closeable {
 
     private static final long TIMEOUT_IN_MILLIS = 4000;
-    private static final String ANY = ".*";
+    private static final long TIMEOUT_WHILE_AWAITING_IN_MILLIS = 100;
+    private static final int MAX_MATCHERS = 32;
 
-    private Thread innerThread;
-    private List<String> logs = new CopyOnWriteArrayList<>();
-    private boolean running = false;
+    private final Object pollMonitor = new Object();
+    private final Object linesMonitor = new Object();
+    private final AtomicInteger linesWaiters = new AtomicInteger();
+
+    private ScheduledFuture<?> nextPoll;
+    private long pollGeneration;
+    private volatile LogStore logs = new LogStore();
+    private volatile Map<List<String>, LogMatcher> matchers = newMatchers();
+    private volatile boolean running = false;
+    private long linesCount;
 
     protected abstract void handle();
 
     public void startWatching() {
-        logs.clear();
+        LogStore previous = logs;
+        logs = createLogStore();
+        previous.discard();
+        matchers = newMatchers();
         running = true;
-        innerThread = new Thread(this::run);
-        innerThread.setDaemon(true);
-        innerThread.start();
+        schedulePoll(0);
     }
 
     public void stopWatching() {
         flush();
         running = false;
-        logs.clear();
-        if (innerThread != null) {
-            try {
-                innerThread.interrupt();
-            } catch (Exception ignored) {
-
+        synchronized (pollMonitor) {
+            pollGeneration++;
+            if (nextPoll != null) {
+                nextPoll.cancel(false);
+                nextPoll = null;
             }
         }
     }
 
+    /**
+     * @return an immutable snapshot of the logs received so far.
+     */
     public List<String> logs() {
-        return Collections.unmodifiableList(logs);
+        return logs.snapshot();
     }
 
+    /**
+     * @return whether any line contains the expected value, either as a literal or as a regular expression.
+     */
     public boolean logsContains(String expected) {
-        return logs().stream().anyMatch(line -> line.contains(expected) // simple contains
-                || line.matches(ANY + expected + ANY)); // or by regular expression
+        return logsContainsAny(List.of(expected));
+    }
+
+    /**
+     * @return whether any line contains any of the expected values, either as a literal or as a regular expression.
+     *         Only the lines received since the previous check of the same values are read.
+     */
+    public boolean logsContainsAny(List<String> expected) {
+        Map<List<String>, LogMatcher> currentMatchers = matchers;
+        return currentMatchers.computeIfAbsent(List.copyOf(expected), LogMatcher::new).matches(logs());
+    }
+
+    /**
+     * @return the number of lines received so far. It's not affected when the logs are cleared.
+     */
+    public long getLinesCount() {
+        synchronized (linesMonitor) {
+            return linesCount;
+        }
+    }
+
+    /**
+     * Wait until new lines are received after the given number of lines or the timeout expires. While there are threads
+     * waiting for new lines, the logs are read more often.
+     */
+    public void awaitNewLines(long afterLinesCount, Duration timeout) throws InterruptedException {
+        linesWaiters.incrementAndGet();
+        try {
+            schedulePoll(0);
+
+            long deadline = System.nanoTime() + timeout.toNanos();
+            synchronized (linesMonitor) {
+                long remaining = timeout.toNanos();
+                while (linesCount == afterLinesCount && remaining > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(linesMonitor, remaining);
+                    remaining = deadline - System.nanoTime();
+                }
+            }
+        } finally {
+            linesWaiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Wait until there are more lines than the given number of lines or the timeout expires.
+     */
+    public void awaitLogs(int afterLines, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            long linesCount = getLinesCount();
+            long remaining = deadline - System.nanoTime();
+            if (logs.size() > afterLines || remaining <= 0) {
+                return;
+            }
+
+            awaitNewLines(linesCount, Duration.ofNanos(remaining));
+        }
     }
 
+    /**
+     * Read the pending logs now. It takes the same lock as the scheduled polls, so the lines are never read twice.
+     */
     public void flush() {
-        AwaitilityUtils.untilAsserted(this::handle);
+        AwaitilityUtils.untilAsserted(() -> {
+            synchronized (this) {
+                handle();
+            }
+        });
     }
 
     @Override
@@ -62,24 +144,77 @@ public abstract class LoggingHandler implements Closeable {
         }
     }
 
-    protected void run() {
-        while (running) {
-            try {
+    /**
+     * Only the most recently used matchers are kept, as the expected values might be different every time (for example,
+     * when these contain the test data).
+     */
+    private static Map<List<String>, LogMatcher> newMatchers() {
+        return Collections.synchronizedMap(new LinkedHashMap<>(MAX_MATCHERS, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, LogMatcher> eldest) {
+                return size() > MAX_MATCHERS;
+            }
+        });
+    }
+
+    /**
+     * The logs are read using the shared I/O scheduler instead of a thread per handler. There is at most one poll
+     * scheduled at a time: an earlier poll replaces the scheduled one if it has not started yet.
+     */
+    private void schedulePoll(long delayInMillis) {
+        if (!isPollingRequired()) {
+            return;
+        }
+
+        synchronized (pollMonitor) {
+            if (!running) {
+                return;
+            }
+
+            if (nextPoll != null
+                    && (nextPoll.getDelay(TimeUnit.MILLISECONDS) <= delayInMillis || !nextPoll.cancel(false))) {
+                // the scheduled poll is earlier, or it's running and will schedule the next poll
+                return;
+            }
+
+            long generation = pollGeneration;
+            nextPoll = IoScheduler.schedule(() -> poll(generation), delayInMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void poll(long generation) {
+        try {
+            synchronized (this) {
                 handle();
-                Thread.sleep(TIMEOUT_IN_MILLIS);
-            } catch (Exception ignored) {
+            }
+        } catch (Exception ignored) {
+
+        }
 
+        synchronized (pollMonitor) {
+            if (running && generation == pollGeneration) {
+                long delay = linesWaiters.get() > 0 ? TIMEOUT_WHILE_AWAITING_IN_MILLIS : TIMEOUT_IN_MILLIS;
+                nextPoll = IoScheduler.schedule(() -> poll(generation), delay, TimeUnit.MILLISECONDS);
             }
         }
     }
 
     protected void onLine(String line) {
-        logs.add(line);
+        logs.append(line);
+        synchronized (linesMonitor) {
+            linesCount++;
+            linesMonitor.notifyAll();
+        }
+
         if (isLogEnabled()) {
             logInfo(line);
         }
     }
 
+    protected LogStore createLogStore() {
+        return new LogStore();
+    }
+
     protected void logInfo(String line) {
         Log.info(line);
     }
@@ -100,4 +235,11 @@ public abstract class LoggingHandler implements Closeable {
         return true;
     }
 
+    /**
+     * @return whether the logs need to be read periodically. It's false when the logs are pushed to the handler.
+     */
+    protected boolean isPollingRequired() {
+        return true;
+    }
+
 }
@@ -10,6 +10,11 @@ public abstract class ServiceLoggingHandler extends LoggingHandler {
         this.service = service;
     }
 
+    @Override
+    protected LogStore createLogStore() {
+        return new LogStore(service.getConfiguration().getLogMaxLinesInMemory());
+    }
+
     @Override
     protected void logInfo(String line) {
         Log.info(service, line);
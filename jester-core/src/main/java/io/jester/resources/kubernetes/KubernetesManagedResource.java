@@ -1,6 +1,7 @@
 package io.jester.resources.kubernetes;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +23,7 @@ import io.jester.core.ManagedResource;
 import io.jester.core.ServiceContext;
 import io.jester.core.extensions.KubernetesExtensionBootstrap;
 import io.jester.logging.KubernetesLoggingHandler;
+import io.jester.logging.Log;
 import io.jester.logging.LoggingHandler;
 import io.jester.utils.FileUtils;
 import io.jester.utils.ManifestsUtils;
@@ -99,9 +101,39 @@ public abstract class KubernetesManagedResource extends ManagedResource {
         return client.port(context.getOwner(), port);
     }
 
+    @Override
+    protected boolean isEndpointStale() {
+        return !useInternalServiceAsUrl() && client.isPortForwardStale(context.getOwner());
+    }
+
     @Override
     public boolean isRunning() {
-        return loggingHandler != null && loggingHandler.logsContains(getExpectedLog());
+        return running && loggingHandler != null
+                && (!isWaitForExpectedLog() || loggingHandler.logsContains(getExpectedLog()));
+    }
+
+    @Override
+    public boolean isFailed() {
+        if (!running) {
+            return false;
+        }
+
+        Optional<String> failure = client.getDeploymentFailure(context.getOwner());
+        failure.ifPresent(reason -> Log.error(context.getOwner(), reason));
+        return failure.isPresent();
+    }
+
+    /**
+     * The service has started when it's running and all the replicas of its deployment are available.
+     */
+    @Override
+    protected boolean isStarted() {
+        return isRunning() && client.isDeploymentReady(context.getOwner());
+    }
+
+    @Override
+    protected boolean isAlive() {
+        return running && client.isDeploymentReady(context.getOwner());
     }
 
     @Override
@@ -114,6 +146,20 @@ public abstract class KubernetesManagedResource extends ManagedResource {
         return loggingHandler;
     }
 
+    @Override
+    protected long getStateVersion() {
+        return super.getStateVersion() + client.getResourceChanges();
+    }
+
+    /**
+     * Wait until the pods or the deployment change, or new logs are printed (see {@link KubernetesLoggingHandler},
+     * which signals the client on every new line).
+     */
+    @Override
+    protected void awaitStateChange(long stateVersion, Duration wait) throws InterruptedException {
+        client.awaitCondition(() -> getStateVersion() != stateVersion, wait);
+    }
+
     @Override
     protected void init(ServiceContext context) {
         super.init(context);
@@ -190,6 +236,11 @@ public abstract class KubernetesManagedResource extends ManagedResource {
         }
     }
 
+    private boolean isWaitForExpectedLog() {
+        return StringUtils.isNotEmpty(getExpectedLog())
+                && context.getConfigurationAs(KubernetesServiceConfiguration.class).isWaitForExpectedLog();
+    }
+
     private boolean useInternalServiceAsUrl() {
         return context.getConfigurationAs(KubernetesServiceConfiguration.class).isUseInternalService();
     }
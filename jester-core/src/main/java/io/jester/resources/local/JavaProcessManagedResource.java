@@ -9,10 +9,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -36,6 +38,8 @@ public abstract class JavaProcessManagedResource extends ManagedResource {
 
     protected Map<String, String> propertiesToOverwrite = new HashMap<>();
 
+    private final Set<Integer> reservedPorts = new HashSet<>();
+
     private File logOutputFile;
     private Process process;
     private LoggingHandler loggingHandler;
@@ -76,7 +80,13 @@ public abstract class JavaProcessManagedResource extends ManagedResource {
             loggingHandler.stopWatching();
         }
 
-        ProcessUtils.destroy(process);
+        ProcessUtils.destroy(process, context.getJesterContext().getId());
+    }
+
+    @Override
+    protected void release() {
+        reservedPorts.forEach(SocketUtils::releasePort);
+        reservedPorts.clear();
     }
 
     @Override
@@ -99,6 +109,11 @@ public abstract class JavaProcessManagedResource extends ManagedResource {
         return process != null && process.isAlive();
     }
 
+    @Override
+    protected boolean isAlive() {
+        return process != null && process.isAlive();
+    }
+
     @Override
     protected LoggingHandler getLoggingHandler() {
         return loggingHandler;
@@ -159,7 +174,16 @@ public abstract class JavaProcessManagedResource extends ManagedResource {
 
     protected int getOrAssignPortByProperty(String property) {
         return context.getOwner().getProperty(property).filter(StringUtils::isNotEmpty).map(Integer::parseInt)
-                .orElseGet(() -> SocketUtils.findAvailablePort(context.getOwner()));
+                .orElseGet(this::assignAvailablePort);
+    }
+
+    /**
+     * @return an available port that is reserved until the resource is released.
+     */
+    protected int assignAvailablePort() {
+        int port = SocketUtils.findAvailablePort(context.getOwner());
+        reservedPorts.add(port);
+        return port;
     }
 
     private void assignPorts() {
@@ -3,6 +3,7 @@ package io.jester.utils;
 import java.time.Duration;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -11,8 +12,11 @@ import org.awaitility.Awaitility;
 import org.awaitility.core.ConditionEvaluationListener;
 import org.awaitility.core.ConditionFactory;
 import org.awaitility.core.EvaluatedCondition;
+import org.awaitility.core.IgnoredException;
 import org.awaitility.core.ThrowingRunnable;
 import org.awaitility.core.TimeoutEvent;
+import org.awaitility.pollinterval.FixedPollInterval;
+import org.awaitility.pollinterval.PollInterval;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 
@@ -170,28 +174,29 @@ public final class AwaitilityUtils {
     }
 
     private static ConditionFactory awaits(AwaitilitySettings settings) {
-        ConditionFactory factory = Awaitility.await().pollInterval(settings.interval.toSeconds(), TimeUnit.SECONDS)
-                .atMost(timeoutInSeconds(settings), TimeUnit.SECONDS);
+        ConditionFactory factory = Awaitility.await().pollInterval(settings.pollInterval())
+                .atMost(timeoutInMillis(settings), TimeUnit.MILLISECONDS);
 
-        if (!settings.doNotIgnoreExceptions) {
-            factory = factory.ignoreExceptions();
+        if (settings.backoff != Backoff.FIXED) {
+            // the backoff strategies are meant for short operations, so the first check is done right away
+            factory = factory.pollDelay(Duration.ZERO);
         }
 
-        if (settings.service != null || StringUtils.isNotEmpty(settings.timeoutMessage)) {
-            // Enable logging
-            factory = factory.conditionEvaluationListener(new CustomConditionEvaluationListener(settings));
+        if (!settings.doNotIgnoreExceptions) {
+            factory = factory.ignoreExceptions();
         }
 
-        return factory;
+        settings.resetStatistics();
+        return factory.conditionEvaluationListener(new CustomConditionEvaluationListener(settings));
     }
 
-    private static long timeoutInSeconds(AwaitilitySettings settings) {
+    private static long timeoutInMillis(AwaitilitySettings settings) {
         double factor = 1.0;
         if (settings.service != null) {
             factor = settings.service.getConfiguration().getFactorTimeout();
         }
 
-        return Math.round(settings.timeout.toSeconds() * factor);
+        return Math.round(settings.timeout.toMillis() * factor);
     }
 
     public static final class CustomConditionEvaluationListener implements ConditionEvaluationListener {
@@ -204,15 +209,35 @@ public final class AwaitilityUtils {
 
         @Override
         public void conditionEvaluated(EvaluatedCondition condition) {
+            settings.polled(condition.getElapsedTimeInMS());
+            if (!isLoggingEnabled()) {
+                return;
+            }
+
             if (settings.service != null) {
                 Log.trace(settings.service, condition.getDescription());
             } else {
                 Log.debug(condition.getDescription());
             }
+
+            if (condition.isSatisfied()) {
+                logDebug("Condition satisfied after %s polls in %s ms", settings.getPollCount(),
+                        settings.getElapsed().toMillis());
+            }
+        }
+
+        @Override
+        public void exceptionIgnored(IgnoredException ignoredException) {
+            settings.polled(ignoredException.getElapsedTimeInMS());
         }
 
         @Override
         public void onTimeout(TimeoutEvent timeoutEvent) {
+            settings.polled(timeoutEvent.getElapsedTimeInMS());
+            if (!isLoggingEnabled()) {
+                return;
+            }
+
             String message = timeoutEvent.getDescription();
             if (StringUtils.isNotEmpty(message)) {
                 message = settings.timeoutMessage;
@@ -223,17 +248,55 @@ public final class AwaitilityUtils {
             } else {
                 Log.warn(message);
             }
+
+            logDebug("Condition not satisfied after %s polls in %s ms", settings.getPollCount(),
+                    settings.getElapsed().toMillis());
+        }
+
+        private boolean isLoggingEnabled() {
+            return settings.service != null || StringUtils.isNotEmpty(settings.timeoutMessage);
+        }
+
+        private void logDebug(String message, Object... args) {
+            if (settings.service != null) {
+                Log.debug(settings.service, message, args);
+            } else {
+                Log.debug(message, args);
+            }
         }
     }
 
+    /**
+     * Strategy to compute the time between polls.
+     */
+    public enum Backoff {
+        /**
+         * Poll every interval.
+         */
+        FIXED,
+        /**
+         * Poll after the interval multiplied by the Fibonacci sequence: 1, 1, 2, 3, 5, ...
+         */
+        FIBONACCI,
+        /**
+         * Poll after the interval multiplied by the powers of two: 1, 2, 4, 8, ...
+         */
+        EXPONENTIAL
+    }
+
     public static final class AwaitilitySettings {
 
         Duration interval = Duration.ofSeconds(POLL_SECONDS);
+        Duration maxInterval = Duration.ofSeconds(POLL_SECONDS);
+        Backoff backoff = Backoff.FIXED;
         Duration timeout = Duration.ofSeconds(TIMEOUT_SECONDS);
         Service service;
         String timeoutMessage = StringUtils.EMPTY;
         boolean doNotIgnoreExceptions = false;
 
+        private final AtomicInteger pollCount = new AtomicInteger();
+        private volatile long elapsedInMillis;
+
         public static AwaitilitySettings defaults() {
             return new AwaitilitySettings();
         }
@@ -251,6 +314,16 @@ public final class AwaitilityUtils {
             return settings;
         }
 
+        /**
+         * Poll right away, and then doubling the initial interval every time up to the max interval. It's meant for
+         * operations that usually take less than a second.
+         */
+        public static AwaitilitySettings usingExponentialBackoff(Duration initialInterval, Duration maxInterval) {
+            AwaitilitySettings settings = defaults();
+            settings.interval = initialInterval;
+            return settings.withExponentialBackoff(maxInterval);
+        }
+
         public AwaitilitySettings withService(Service service) {
             this.service = service;
             return this;
@@ -265,5 +338,76 @@ public final class AwaitilityUtils {
             this.doNotIgnoreExceptions = true;
             return this;
         }
+
+        /**
+         * Poll using the Fibonacci sequence of the interval, up to the max interval.
+         */
+        public AwaitilitySettings withFibonacciBackoff(Duration maxInterval) {
+            return withBackoff(Backoff.FIBONACCI, maxInterval);
+        }
+
+        /**
+         * Poll doubling the interval every time, up to the max interval.
+         */
+        public AwaitilitySettings withExponentialBackoff(Duration maxInterval) {
+            return withBackoff(Backoff.EXPONENTIAL, maxInterval);
+        }
+
+        public AwaitilitySettings withBackoff(Backoff backoff, Duration maxInterval) {
+            this.backoff = backoff;
+            this.maxInterval = maxInterval;
+            return this;
+        }
+
+        /**
+         * @return the number of times the condition was checked in the last wait using these settings.
+         */
+        public int getPollCount() {
+            return pollCount.get();
+        }
+
+        /**
+         * @return the time spent in the last wait using these settings.
+         */
+        public Duration getElapsed() {
+            return Duration.ofMillis(elapsedInMillis);
+        }
+
+        void resetStatistics() {
+            pollCount.set(0);
+            elapsedInMillis = 0;
+        }
+
+        void polled(long elapsedInMillis) {
+            pollCount.incrementAndGet();
+            this.elapsedInMillis = elapsedInMillis;
+        }
+
+        PollInterval pollInterval() {
+            switch (backoff) {
+            case FIBONACCI:
+                return (pollCount, previous) -> cap(interval.multipliedBy(fibonacci(pollCount)));
+            case EXPONENTIAL:
+                return (pollCount, previous) -> pollCount == 1 ? cap(interval) : cap(previous.multipliedBy(2));
+            default:
+                return new FixedPollInterval(interval);
+            }
+        }
+
+        private Duration cap(Duration value) {
+            return value.compareTo(maxInterval) > 0 ? maxInterval : value;
+        }
+
+        private static long fibonacci(int position) {
+            long previous = 0;
+            long current = 1;
+            for (int i = 1; i < position && current < Integer.MAX_VALUE; i++) {
+                long next = previous + current;
+                previous = current;
+                current = next;
+            }
+
+            return current;
+        }
     }
 }
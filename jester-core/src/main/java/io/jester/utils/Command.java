@@ -79,8 +79,7 @@ public class Command {
         Process process = ProcessBuilderProvider.command(command).redirectErrorStream(true)
                 .directory(new File(directory).getAbsoluteFile()).start();
 
-        new Thread(() -> outputConsumer.accept(description, process.getInputStream()),
-                "stdout consumer for command " + description).start();
+        IoScheduler.execute(() -> outputConsumer.accept(description, process.getInputStream()));
 
         return process;
     }
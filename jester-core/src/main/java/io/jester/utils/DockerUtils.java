@@ -5,6 +5,7 @@ import static java.util.regex.Pattern.quote;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import io.jester.core.LifecyclePhase;
 import io.jester.core.ServiceContext;
 
 public final class DockerUtils {
@@ -34,24 +35,28 @@ public final class DockerUtils {
 
     public static String build(ServiceContext service, String dockerfile, String directory) {
         String image = service.getConfiguration().getImageRegistry() + "/" + getUniqueName(service);
-        try {
-            new Command(DOCKER, "build", "-f", Path.of(dockerfile).toFile().getAbsoluteFile().toString(), "-t", image,
-                    ".").onDirectory(directory).runAndWait();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to build image " + service.getServiceFolder().toAbsolutePath(), e);
-        }
+        service.getTimings().time(LifecyclePhase.IMAGE, () -> {
+            try {
+                new Command(DOCKER, "build", "-f", Path.of(dockerfile).toFile().getAbsoluteFile().toString(), "-t",
+                        image, ".").onDirectory(directory).runAndWait();
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to build image " + service.getServiceFolder().toAbsolutePath(), e);
+            }
+        });
 
         return image;
     }
 
     public static void push(ServiceContext service) {
-        try {
-            new Command(DOCKER, "push", service.getConfiguration().getImageRegistry() + "/" + getUniqueName(service))
-                    .runAndWait();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to push image " + service.getOwner().getName() + " into "
-                    + service.getConfiguration().getImageRegistry(), e);
-        }
+        service.getTimings().time(LifecyclePhase.IMAGE, () -> {
+            try {
+                new Command(DOCKER, "push",
+                        service.getConfiguration().getImageRegistry() + "/" + getUniqueName(service)).runAndWait();
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to push image " + service.getOwner().getName() + " into "
+                        + service.getConfiguration().getImageRegistry(), e);
+            }
+        });
     }
 
     private static String getUniqueName(ServiceContext service) {
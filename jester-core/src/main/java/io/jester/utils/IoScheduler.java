@@ -0,0 +1,99 @@
+package io.jester.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.jester.logging.Log;
+
+/**
+ * Shared scheduler for the I/O tasks of the framework: the periodic tasks (for example, reading the logs of the
+ * services) run in a small pool of threads, and the tasks that block on streams (for example, the output of commands)
+ * run in virtual threads when running on JDK 21+, or in a cached pool of threads otherwise.
+ */
+public final class IoScheduler {
+
+    private static final int SCHEDULER_THREADS = 2;
+    private static final String THREAD_PREFIX = "jester-io-";
+    private static final String NEW_VIRTUAL_THREAD_EXECUTOR = "newVirtualThreadPerTaskExecutor";
+
+    private static ScheduledExecutorService scheduler;
+    private static ExecutorService blockingExecutor;
+
+    private IoScheduler() {
+
+    }
+
+    /**
+     * Run the task after the delay.
+     */
+    public static ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return scheduler().schedule(task, delay, unit);
+    }
+
+    /**
+     * Run a task that blocks on I/O, like reading a stream until it's closed.
+     */
+    public static void execute(Runnable task) {
+        blockingExecutor().execute(task);
+    }
+
+    /**
+     * Stop all the running tasks. The scheduler is started again when new tasks are submitted.
+     */
+    public static synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+
+        if (blockingExecutor != null) {
+            blockingExecutor.shutdownNow();
+            blockingExecutor = null;
+        }
+    }
+
+    private static synchronized ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newScheduledThreadPool(SCHEDULER_THREADS, daemonThreads("scheduler-"));
+        }
+
+        return scheduler;
+    }
+
+    private static synchronized ExecutorService blockingExecutor() {
+        if (blockingExecutor == null) {
+            blockingExecutor = newVirtualThreadExecutor();
+            if (blockingExecutor == null) {
+                blockingExecutor = Executors.newCachedThreadPool(daemonThreads("stream-"));
+            }
+        }
+
+        return blockingExecutor;
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method method = Executors.class.getMethod(NEW_VIRTUAL_THREAD_EXECUTOR);
+            return (ExecutorService) method.invoke(null);
+        } catch (Exception | LinkageError ex) {
+            // virtual threads are not supported or not enabled in this JDK
+            Log.debug("Virtual threads are not available: %s", ex.getMessage());
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, THREAD_PREFIX + name + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,6 +1,9 @@
 package io.jester.utils;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Assertions;
 
@@ -8,23 +11,107 @@ import io.jester.api.Service;
 
 public class LogsVerifier {
 
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final int MAX_LINES_IN_FAILURE_MESSAGE = 50;
+
     private final Service service;
+    private final int mark;
 
     public LogsVerifier(Service service) {
+        this(service, 0);
+    }
+
+    private LogsVerifier(Service service, int mark) {
         this.service = service;
+        this.mark = mark;
+    }
+
+    /**
+     * @return the current position of the logs, to only verify the lines that are printed afterwards using
+     *         {@link #since(int)}.
+     */
+    public int mark() {
+        return service.getLogs().size();
+    }
+
+    /**
+     * @return a verifier that only checks the lines printed after the given mark.
+     */
+    public LogsVerifier since(int mark) {
+        return new LogsVerifier(service, mark);
     }
 
     public void assertContains(String expectedLog) {
-        AwaitilityUtils.untilAsserted(() -> {
-            List<String> actualLogs = service.getLogs();
-            Assertions.assertTrue(actualLogs.stream().anyMatch(line -> line.contains(expectedLog)),
-                    "Log does not contain " + expectedLog + ". Full logs: " + actualLogs);
-        });
+        awaitLine(expectedLog, DEFAULT_TIMEOUT);
     }
 
     public void assertDoesNotContain(String unexpectedLog) {
-        List<String> actualLogs = service.getLogs();
+        List<String> actualLogs = linesSinceMark(service.getLogs());
         Assertions.assertTrue(actualLogs.stream().noneMatch(line -> line.contains(unexpectedLog)),
-                "Log does contain " + unexpectedLog + ". Full logs: " + actualLogs);
+                "Log does contain " + unexpectedLog + ". " + describe(actualLogs));
+    }
+
+    /**
+     * Wait until a line contains the expected log.
+     *
+     * @return the first line that contains the expected log.
+     */
+    public String awaitLine(String expectedLog, Duration timeout) {
+        return awaitLine(line -> line.contains(expectedLog), expectedLog, timeout);
+    }
+
+    /**
+     * Wait until a line matches the pattern.
+     *
+     * @return the first line that matches the pattern.
+     */
+    public String awaitLine(Pattern pattern, Duration timeout) {
+        return awaitLine(line -> pattern.matcher(line).find(), pattern.pattern(), timeout);
+    }
+
+    private String awaitLine(Predicate<String> matcher, String expectedLog, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int cursor = mark;
+        List<String> actualLogs = service.getLogs();
+        try {
+            while (true) {
+                if (actualLogs.size() < cursor) {
+                    // the service was restarted, so the logs are new
+                    cursor = 0;
+                }
+
+                for (; cursor < actualLogs.size(); cursor++) {
+                    String line = actualLogs.get(cursor);
+                    if (matcher.test(line)) {
+                        return line;
+                    }
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+
+                service.awaitLogs(actualLogs.size(), Duration.ofNanos(remaining));
+                actualLogs = service.getLogs();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        return Assertions.fail("Log does not contain " + expectedLog + ". " + describe(linesSinceMark(actualLogs)));
+    }
+
+    private List<String> linesSinceMark(List<String> actualLogs) {
+        return actualLogs.subList(Math.min(mark, actualLogs.size()), actualLogs.size());
+    }
+
+    private static String describe(List<String> actualLogs) {
+        if (actualLogs.size() <= MAX_LINES_IN_FAILURE_MESSAGE) {
+            return "Full logs: " + actualLogs;
+        }
+
+        return String.format("Last %s of %s lines: %s", MAX_LINES_IN_FAILURE_MESSAGE, actualLogs.size(),
+                actualLogs.subList(actualLogs.size() - MAX_LINES_IN_FAILURE_MESSAGE, actualLogs.size()));
     }
 }
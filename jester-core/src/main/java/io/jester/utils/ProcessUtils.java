@@ -1,6 +1,13 @@
 package io.jester.utils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.condition.OS;
 
@@ -9,47 +16,103 @@ import io.jester.logging.Log;
 public final class ProcessUtils {
 
     private static final int PROCESS_KILL_TIMEOUT_MINUTES = 3;
+    private static final int PROCESS_FORCED_KILL_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Processes that are being destroyed by owner, so these can be killed at once if the services of the owner don't
+     * stop in time.
+     */
+    private static final Map<ProcessHandle, String> PROCESSES_TO_DESTROY = new ConcurrentHashMap<>();
 
     private ProcessUtils() {
 
     }
 
-    public static void destroy(Process process) {
-        try {
-            if (process != null) {
-                process.descendants().forEach(child -> {
-                    if (child.supportsNormalTermination()) {
-                        child.destroyForcibly();
-                    }
-
-                    pidKiller(child.pid());
+    /**
+     * @param owner
+     *            the ID of the test class that owns the process. See {@link #destroyAllForcibly(String)}.
+     */
+    public static void destroy(Process process, String owner) {
+        if (process == null) {
+            return;
+        }
 
-                    AwaitilityUtils.untilIsFalse(child::isAlive);
-                });
+        List<ProcessHandle> children = process.descendants().collect(Collectors.toList());
+        List<ProcessHandle> processes = new ArrayList<>(children);
+        processes.add(process.toHandle());
+        processes.forEach(handle -> PROCESSES_TO_DESTROY.put(handle, owner));
+        try {
+            destroyForcibly(children);
 
-                if (process.supportsNormalTermination()) {
-                    process.destroy();
-                    process.waitFor(PROCESS_KILL_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+            if (process.supportsNormalTermination()) {
+                process.destroy();
+                if (awaitExit(processes, PROCESS_KILL_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+                    return;
                 }
-
-                pidKiller(process.pid());
-                AwaitilityUtils.untilIsFalse(process::isAlive);
             }
+
+            destroyForcibly(processes);
         } catch (Exception e) {
             Log.warn("Error trying to stop process. Caused by " + e.getMessage());
+        } finally {
+            processes.forEach(PROCESSES_TO_DESTROY::remove);
+        }
+    }
+
+    /**
+     * Kill all the processes of the owner that are being destroyed at the moment.
+     */
+    public static void destroyAllForcibly(String owner) {
+        List<ProcessHandle> processes = PROCESSES_TO_DESTROY.entrySet().stream()
+                .filter(entry -> owner.equals(entry.getValue())).map(Map.Entry::getKey).collect(Collectors.toList());
+        if (!processes.isEmpty()) {
+            Log.warn("Killing %s processes that were not stopped in time", processes.size());
+            destroyForcibly(processes);
         }
     }
 
-    private static void pidKiller(long pid) {
+    private static void destroyForcibly(List<ProcessHandle> processes) {
+        List<ProcessHandle> alive = processes.stream().filter(ProcessHandle::isAlive).collect(Collectors.toList());
+        if (alive.isEmpty()) {
+            return;
+        }
+
+        alive.forEach(ProcessHandle::destroyForcibly);
+        pidKiller(alive.stream().map(ProcessHandle::pid).collect(Collectors.toList()));
+        if (!awaitExit(alive, PROCESS_FORCED_KILL_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            Log.warn("Processes %s are still alive after being killed", alive);
+        }
+    }
+
+    private static boolean awaitExit(List<ProcessHandle> processes, long timeout, TimeUnit unit) {
         try {
-            if (OS.WINDOWS.isCurrentOs()) {
-                Runtime.getRuntime()
-                        .exec(new String[] { "cmd", "/C", "taskkill", "/PID", Long.toString(pid), "/F", "/T" });
-            } else {
-                Runtime.getRuntime().exec(new String[] { "kill", "-9", Long.toString(pid) });
-            }
+            CompletableFuture.allOf(processes.stream().map(ProcessHandle::onExit).toArray(CompletableFuture[]::new))
+                    .get(timeout, unit);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return processes.stream().noneMatch(ProcessHandle::isAlive);
+        }
+    }
+
+    private static void pidKiller(List<Long> pids) {
+        List<String> command = new ArrayList<>();
+        if (OS.WINDOWS.isCurrentOs()) {
+            command.addAll(List.of("cmd", "/C", "taskkill", "/F", "/T"));
+            pids.forEach(pid -> command.addAll(List.of("/PID", Long.toString(pid))));
+        } else {
+            command.addAll(List.of("kill", "-9"));
+            pids.forEach(pid -> command.add(Long.toString(pid)));
+        }
+
+        try {
+            Runtime.getRuntime().exec(command.toArray(String[]::new));
         } catch (Exception e) {
-            Log.warn("Error stopping process " + pid, e);
+            Log.warn("Error stopping processes " + pids, e);
         }
     }
 }
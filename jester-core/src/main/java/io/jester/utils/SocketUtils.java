@@ -2,7 +2,9 @@ package io.jester.utils;
 
 import java.io.IOException;
 import java.net.ServerSocket;
-import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import io.jester.api.PortResolutionStrategy;
@@ -11,13 +13,17 @@ import io.jester.api.Service;
 public final class SocketUtils {
 
     private static final AtomicInteger CURRENT_MIN_PORT = new AtomicInteger(0);
-    private static final Random RND = new Random(System.nanoTime());
+    /**
+     * Ports that were already given to a service, so concurrent callers never get the same port even when the service
+     * has not bound it yet.
+     */
+    private static final Set<Integer> ASSIGNED_PORTS = ConcurrentHashMap.newKeySet();
 
     private SocketUtils() {
 
     }
 
-    public static synchronized int findAvailablePort(Service service) {
+    public static int findAvailablePort(Service service) {
         if (service.getConfiguration().getPortResolutionStrategy() == PortResolutionStrategy.RANDOM) {
             return findRandomAvailablePort(service);
         }
@@ -36,29 +42,51 @@ public final class SocketUtils {
                                 portRangeMin(service), portRangeMax(service), searchCounter));
             }
 
-            candidatePort = portRangeMin(service) + RND.nextInt((portRangeMax(service) - portRangeMin(service)) + 1);
+            candidatePort = portRangeMin(service)
+                    + ThreadLocalRandom.current().nextInt((portRangeMax(service) - portRangeMin(service)) + 1);
             searchCounter++;
-        } while (!isPortAvailable(service, candidatePort));
+        } while (!assignPortIfAvailable(service, candidatePort));
 
         return candidatePort;
     }
 
-    public static synchronized int findNextAvailablePort(Service service) {
+    /**
+     * The next port is given after the last one, and it starts over once the end of the range is reached, so the
+     * released ports can be given again.
+     */
+    public static int findNextAvailablePort(Service service) {
         int portRangeMin = portRangeMin(service);
-        int candidate;
-        do {
-            if (CURRENT_MIN_PORT.get() < portRangeMin) {
-                CURRENT_MIN_PORT.set(portRangeMin);
-            }
-
-            candidate = CURRENT_MIN_PORT.incrementAndGet();
-            if (isPortAvailable(service, candidate)) {
+        int portRangeMax = portRangeMax(service);
+        for (int attempt = 0; attempt < portRangeMax - portRangeMin; attempt++) {
+            int candidate = CURRENT_MIN_PORT.updateAndGet(
+                    current -> current < portRangeMin || current >= portRangeMax ? portRangeMin + 1 : current + 1);
+            if (assignPortIfAvailable(service, candidate)) {
                 return candidate;
             }
-        } while (candidate <= portRangeMax(service));
+        }
+
+        throw new IllegalStateException(
+                String.format("Could not find an available port in the range [%d, %d]", portRangeMin, portRangeMax));
+    }
+
+    /**
+     * Give back a port that was given by this class, so it can be given again once the service does not use it.
+     */
+    public static void releasePort(int port) {
+        ASSIGNED_PORTS.remove(port);
+    }
+
+    private static boolean assignPortIfAvailable(Service service, int port) {
+        if (!ASSIGNED_PORTS.add(port)) {
+            return false;
+        }
+
+        if (!isPortAvailable(service, port)) {
+            ASSIGNED_PORTS.remove(port);
+            return false;
+        }
 
-        throw new IllegalStateException(String.format("Could not find an available port in the range [%d, %d]",
-                portRangeMin, portRangeMax(service)));
+        return true;
     }
 
     private static boolean isPortAvailable(Service service, int port) {
@@ -0,0 +1,108 @@
+package io.jester.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileTailerTest {
+
+    @TempDir
+    Path folder;
+
+    private final List<String> lines = new ArrayList<>();
+    private Path file;
+    private FileTailer tailer;
+
+    @BeforeEach
+    public void setup() {
+        file = folder.resolve("out.log");
+        tailer = new FileTailer(file.toFile());
+    }
+
+    @Test
+    public void shouldReadOnlyTheNewLines() throws IOException {
+        append("first\r\n\nsecond\n");
+        tailer.readNewLines(lines::add);
+        append("third\n");
+        tailer.readNewLines(lines::add);
+
+        assertEquals(List.of("first", "second", "third"), lines);
+    }
+
+    @Test
+    public void shouldKeepThePartialLineUntilItIsFlushed() throws IOException {
+        append("first\nsecond");
+        tailer.readNewLines(lines::add);
+        assertEquals(List.of("first"), lines);
+
+        append(" part\nlast");
+        tailer.readNewLines(lines::add);
+        assertEquals(List.of("first", "second part"), lines);
+
+        tailer.flushPendingLine(lines::add);
+        assertEquals(List.of("first", "second part", "last"), lines);
+
+        tailer.flushPendingLine(lines::add);
+        assertEquals(3, lines.size(), "Flushed lines must not be emitted twice");
+    }
+
+    @Test
+    public void shouldReadFromTheBeginningWhenTheFileIsTruncated() throws IOException {
+        append("first\nsecond\n");
+        tailer.readNewLines(lines::add);
+
+        Files.writeString(file, "third\n", StandardOpenOption.TRUNCATE_EXISTING);
+        tailer.readNewLines(lines::add);
+
+        assertEquals(List.of("first", "second", "third"), lines);
+    }
+
+    @Test
+    public void shouldReadFromTheBeginningWhenTheFileIsRotated() throws IOException {
+        append("first line of the old file\n");
+        tailer.readNewLines(lines::add);
+
+        Path newFile = folder.resolve("new.log");
+        Files.writeString(newFile, "first line of the new file, which is longer\n");
+        Files.move(newFile, file, StandardCopyOption.REPLACE_EXISTING);
+        tailer.readNewLines(lines::add);
+
+        assertEquals(List.of("first line of the old file", "first line of the new file, which is longer"), lines);
+    }
+
+    @Test
+    public void shouldDecodeCharactersSplitAcrossReads() throws IOException {
+        byte[] bytes = "héllo\n".getBytes(StandardCharsets.UTF_8);
+        // split the two bytes of "é"
+        append(bytes, 0, 2);
+        tailer.readNewLines(lines::add);
+        assertTrue(lines.isEmpty());
+
+        append(bytes, 2, bytes.length - 2);
+        tailer.readNewLines(lines::add);
+        assertEquals(List.of("héllo"), lines);
+    }
+
+    private void append(String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        append(bytes, 0, bytes.length);
+    }
+
+    private void append(byte[] bytes, int offset, int length) throws IOException {
+        byte[] chunk = new byte[length];
+        System.arraycopy(bytes, offset, chunk, 0, length);
+        Files.write(file, chunk, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,58 @@
+package io.jester.logging;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LogMatcherTest {
+
+    @Test
+    public void shouldMatchOverlappingLiterals() {
+        LogMatcher matcher = new LogMatcher(List.of("she", "he", "hers", "his"));
+
+        assertTrue(matcher.matches(List.of("ushers")));
+        assertTrue(new LogMatcher(List.of("abcd", "bc")).matches(List.of("xabcx")));
+        assertFalse(new LogMatcher(List.of("abcd", "bcf")).matches(List.of("abcbcd", "bcd")));
+    }
+
+    @Test
+    public void shouldMatchRegularExpressions() {
+        LogMatcher matcher = new LogMatcher(List.of("started in \\d+\\.\\d+s"));
+
+        assertFalse(matcher.matches(List.of("started in 1s")));
+        assertTrue(matcher.matches(List.of("started in 1s", "Quarkus started in 1.234s. Listening on ...")));
+    }
+
+    @Test
+    public void shouldMatchRegularExpressionCharactersAsLiterals() {
+        assertTrue(new LogMatcher(List.of("[INFO] Started (pid: 1)")).matches(List.of("[INFO] Started (pid: 1)")));
+        assertTrue(new LogMatcher(List.of("value is $1.5?")).matches(List.of("The value is $1.5?")));
+        // invalid regular expressions are only checked as literals
+        assertTrue(new LogMatcher(List.of("missing (bracket")).matches(List.of("a missing (bracket")));
+        assertFalse(new LogMatcher(List.of("a.c")).matches(List.of("abd")));
+    }
+
+    @Test
+    public void shouldOnlyReadTheNewLines() {
+        LogMatcher matcher = new LogMatcher(List.of("ready"));
+        List<String> logs = new ArrayList<>(List.of("starting", "loading"));
+        assertFalse(matcher.matches(logs));
+
+        logs.add("ready");
+        assertTrue(matcher.matches(logs));
+    }
+
+    @Test
+    public void shouldReadFromTheBeginningWhenTheLogsAreCleared() {
+        LogMatcher matcher = new LogMatcher(List.of("ready"));
+        assertTrue(matcher.matches(List.of("starting", "loading", "ready")));
+
+        // the service was restarted
+        assertFalse(matcher.matches(List.of("starting")));
+        assertTrue(matcher.matches(List.of("starting", "ready")));
+    }
+}
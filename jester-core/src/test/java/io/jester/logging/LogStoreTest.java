@@ -0,0 +1,146 @@
+package io.jester.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LogStoreTest {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    @TempDir
+    Path spillFolder;
+
+    @Test
+    public void shouldKeepAllTheLinesInMemoryByDefault() {
+        LogStore store = new LogStore();
+        appendLines(store, 3 * CHUNK_SIZE);
+
+        assertEquals(3 * CHUNK_SIZE, store.size());
+        assertEquals("line 0", store.snapshot().get(0));
+        assertEquals("line " + (3 * CHUNK_SIZE - 1), store.snapshot().get(3 * CHUNK_SIZE - 1));
+    }
+
+    @Test
+    public void shouldReadTheSpilledLinesBack() throws IOException {
+        LogStore store = new LogStore(CHUNK_SIZE, spillFolder);
+        appendLines(store, 3 * CHUNK_SIZE + 10);
+
+        assertSpillFileExists();
+        List<String> lines = store.snapshot();
+        assertEquals(3 * CHUNK_SIZE + 10, lines.size());
+        for (int index = 0; index < lines.size(); index++) {
+            assertEquals("line " + index, lines.get(index));
+        }
+    }
+
+    @Test
+    public void shouldReadTheLinesAcrossTheChunkBoundary() {
+        LogStore store = new LogStore(CHUNK_SIZE, spillFolder);
+        appendLines(store, 2 * CHUNK_SIZE + 1);
+
+        List<String> lines = store.snapshot();
+        // from the spilled chunk to the chunk in memory and back
+        assertEquals("line " + (CHUNK_SIZE - 1), lines.get(CHUNK_SIZE - 1));
+        assertEquals("line " + CHUNK_SIZE, lines.get(CHUNK_SIZE));
+        assertEquals("line " + (2 * CHUNK_SIZE), lines.get(2 * CHUNK_SIZE));
+        assertEquals("line 0", lines.get(0));
+    }
+
+    @Test
+    public void shouldKeepTheNewLinesOfTheSpilledLines() {
+        LogStore store = new LogStore(CHUNK_SIZE, spillFolder);
+        store.append("first\nsecond\r\nthird");
+        store.append("");
+        store.append("héllo");
+        appendLines(store, 2 * CHUNK_SIZE);
+
+        List<String> lines = store.snapshot();
+        assertEquals("first\nsecond\r\nthird", lines.get(0));
+        assertEquals("", lines.get(1));
+        assertEquals("héllo", lines.get(2));
+        assertEquals("line 0", lines.get(3));
+    }
+
+    @Test
+    public void shouldReadTheSpilledLinesWhenTheSpillFolderIsDeleted() throws IOException {
+        LogStore store = new LogStore(CHUNK_SIZE, spillFolder);
+        appendLines(store, 2 * CHUNK_SIZE);
+        deleteSpillFolder();
+
+        appendLines(store, 2 * CHUNK_SIZE, CHUNK_SIZE);
+
+        List<String> lines = store.snapshot();
+        assertEquals(3 * CHUNK_SIZE, lines.size());
+        for (int index = 0; index < lines.size(); index++) {
+            assertEquals("line " + index, lines.get(index));
+        }
+    }
+
+    @Test
+    public void shouldDeleteTheSpillFileWhenDiscarded() throws IOException {
+        LogStore store = new LogStore(CHUNK_SIZE, spillFolder);
+        appendLines(store, 2 * CHUNK_SIZE);
+        assertSpillFileExists();
+
+        store.discard();
+
+        try (Stream<Path> files = Files.list(spillFolder)) {
+            assertEquals(0, files.count(), "Spill file should have been deleted");
+        }
+    }
+
+    @Test
+    public void snapshotShouldNotChangeWhenAppendingLines() {
+        LogStore store = new LogStore(CHUNK_SIZE, spillFolder);
+        appendLines(store, CHUNK_SIZE);
+        List<String> snapshot = store.snapshot();
+
+        appendLines(store, 2 * CHUNK_SIZE);
+
+        assertEquals(CHUNK_SIZE, snapshot.size());
+        assertEquals("line " + (CHUNK_SIZE - 1), snapshot.get(CHUNK_SIZE - 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(CHUNK_SIZE));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add("new line"));
+    }
+
+    @Test
+    public void snapshotShouldBeEmptyWhenThereAreNoLines() {
+        assertTrue(new LogStore(CHUNK_SIZE, spillFolder).snapshot().isEmpty());
+    }
+
+    private void assertSpillFileExists() throws IOException {
+        try (Stream<Path> files = Files.list(spillFolder)) {
+            assertEquals(1, files.count(), "Spill file should have been created");
+        }
+    }
+
+    private void deleteSpillFolder() throws IOException {
+        try (Stream<Path> files = Files.list(spillFolder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+
+        Files.delete(spillFolder);
+    }
+
+    private static void appendLines(LogStore store, int count) {
+        appendLines(store, 0, count);
+    }
+
+    private static void appendLines(LogStore store, int first, int count) {
+        for (int index = first; index < first + count; index++) {
+            store.append("line " + index);
+        }
+    }
+}
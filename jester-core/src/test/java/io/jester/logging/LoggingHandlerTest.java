@@ -0,0 +1,59 @@
+package io.jester.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class LoggingHandlerTest {
+
+    private final PushedLoggingHandler handler = new PushedLoggingHandler();
+
+    @Test
+    public void shouldMatchTheNewLogsAfterRestart() {
+        handler.startWatching();
+        handler.onLine("Service started");
+        assertTrue(handler.logsContains("started"));
+        handler.stopWatching();
+
+        handler.startWatching();
+        assertFalse(handler.logsContains("started"));
+        handler.onLine("Service started again");
+        assertTrue(handler.logsContains("started"));
+        assertEquals(List.of("Service started again"), handler.logs());
+    }
+
+    @Test
+    public void shouldMatchWhenCheckingManyDifferentValues() {
+        handler.startWatching();
+        handler.onLine("Hello 0");
+        handler.onLine("Hello 99");
+
+        IntStream.range(0, 100).forEach(index -> handler.logsContains("Hello " + index + "!"));
+        assertTrue(handler.logsContains("Hello 0"));
+        assertTrue(handler.logsContains("Hello 99"));
+        assertFalse(handler.logsContains("Hello 50"));
+    }
+
+    private static class PushedLoggingHandler extends LoggingHandler {
+
+        @Override
+        protected void handle() {
+            // the lines are pushed by the test
+        }
+
+        @Override
+        protected boolean isLogEnabled() {
+            return false;
+        }
+
+        @Override
+        protected boolean isPollingRequired() {
+            return false;
+        }
+    }
+}
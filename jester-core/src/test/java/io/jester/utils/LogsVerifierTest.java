@@ -0,0 +1,97 @@
+package io.jester.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import io.jester.core.BaseService;
+
+public class LogsVerifierTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration SHORT_TIMEOUT = Duration.ofMillis(200);
+
+    private final FakeService service = new FakeService();
+
+    @Test
+    public void shouldOnlyVerifyTheLinesSinceTheMark() {
+        service.log("Started");
+        int mark = service.logs().mark();
+        service.log("Request received");
+
+        service.logs().since(mark).assertContains("Request received");
+        service.logs().since(mark).assertDoesNotContain("Started");
+        service.logs().assertContains("Started");
+        assertThrows(AssertionFailedError.class, () -> service.logs().since(mark).awaitLine("Started", SHORT_TIMEOUT));
+    }
+
+    @Test
+    public void shouldAwaitTheLinesThatArePrintedLater() {
+        CompletableFuture.runAsync(() -> service.log("Listening on 8080"),
+                CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+
+        assertEquals("Listening on 8080", service.logs().awaitLine(Pattern.compile("Listening on \\d+"), TIMEOUT));
+    }
+
+    @Test
+    public void shouldFailWhenTheLineIsNotPrintedInTime() {
+        service.log("Starting");
+
+        AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> service.logs().awaitLine("Started", SHORT_TIMEOUT));
+        assertEquals("Log does not contain Started. Full logs: [Starting]", error.getMessage());
+    }
+
+    @Test
+    public void shouldVerifyTheNewLogsWhenTheServiceIsRestarted() {
+        service.log("Started");
+        service.log("Stopping");
+        int mark = service.logs().mark();
+
+        service.restartLogs();
+        service.log("Started");
+
+        assertEquals("Started", service.logs().since(mark).awaitLine("Started", TIMEOUT));
+    }
+
+    /**
+     * Service that only has logs.
+     */
+    private static class FakeService extends BaseService<FakeService> {
+
+        private List<String> logs = new ArrayList<>();
+
+        @Override
+        public synchronized List<String> getLogs() {
+            return List.copyOf(logs);
+        }
+
+        @Override
+        public synchronized void awaitLogs(int afterLines, Duration timeout) throws InterruptedException {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            long remaining = timeout.toNanos();
+            while (logs.size() <= afterLines && remaining > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+        }
+
+        synchronized void log(String line) {
+            logs.add(line);
+            notifyAll();
+        }
+
+        synchronized void restartLogs() {
+            logs = new ArrayList<>();
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package io.jester.resources.customresources;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.stream.Collectors;
 
 import io.jester.api.CustomResource;
 import io.jester.api.Service;
@@ -12,12 +15,12 @@ import io.jester.core.ManagedResource;
 
 public class CustomResourceAnnotationBinding implements AnnotationBinding {
 
-    private final ServiceLoader<CustomResourceManagedResourceBinding> bindings = ServiceLoader
-            .load(CustomResourceManagedResourceBinding.class);
+    private final List<CustomResourceManagedResourceBinding> bindings = ServiceLoader
+            .load(CustomResourceManagedResourceBinding.class).stream().map(Provider::get).collect(Collectors.toList());
 
     @Override
-    public boolean isFor(Annotation... annotations) {
-        return findAnnotation(annotations, CustomResource.class).isPresent();
+    public List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return List.of(CustomResource.class);
     }
 
     @Override
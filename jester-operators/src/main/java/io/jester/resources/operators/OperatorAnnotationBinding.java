@@ -1,8 +1,11 @@
 package io.jester.resources.operators;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.Locale;
 import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.stream.Collectors;
 
 import io.jester.api.DefaultService;
 import io.jester.api.Operator;
@@ -14,12 +17,12 @@ import io.jester.core.ManagedResource;
 
 public class OperatorAnnotationBinding implements AnnotationBinding {
 
-    private final ServiceLoader<OperatorManagedResourceBinding> bindings = ServiceLoader
-            .load(OperatorManagedResourceBinding.class);
+    private final List<OperatorManagedResourceBinding> bindings = ServiceLoader
+            .load(OperatorManagedResourceBinding.class).stream().map(Provider::get).collect(Collectors.toList());
 
     @Override
-    public boolean isFor(Annotation... annotations) {
-        return findAnnotation(annotations, Operator.class).isPresent();
+    public List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return List.of(Operator.class);
     }
 
     @Override
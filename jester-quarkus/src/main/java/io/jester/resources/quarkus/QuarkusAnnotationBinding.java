@@ -1,7 +1,10 @@
 package io.jester.resources.quarkus;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.stream.Collectors;
 
 import io.jester.api.Quarkus;
 import io.jester.api.Service;
@@ -13,12 +16,12 @@ import io.jester.resources.quarkus.local.ProdModeBootstrapQuarkusManagedResource
 
 public class QuarkusAnnotationBinding implements AnnotationBinding {
 
-    private final ServiceLoader<QuarkusManagedResourceBinding> customBindings = ServiceLoader
-            .load(QuarkusManagedResourceBinding.class);
+    private final List<QuarkusManagedResourceBinding> customBindings = ServiceLoader
+            .load(QuarkusManagedResourceBinding.class).stream().map(Provider::get).collect(Collectors.toList());
 
     @Override
-    public boolean isFor(Annotation... annotations) {
-        return findAnnotation(annotations, Quarkus.class).isPresent();
+    public List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return List.of(Quarkus.class);
     }
 
     @Override
@@ -28,6 +28,7 @@ import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.junit.jupiter.api.condition.OS;
 
 import io.jester.api.Dependency;
+import io.jester.core.LifecyclePhase;
 import io.jester.core.ServiceContext;
 import io.jester.utils.ClassPathUtils;
 import io.jester.utils.FileUtils;
@@ -123,7 +124,7 @@ public class BootstrapQuarkusResource extends QuarkusResource {
         }
 
         if (runnerLocation.isEmpty()) {
-            return buildRunner();
+            return context.getTimings().time(LifecyclePhase.BUILD, this::buildRunner);
         } else {
             return Path.of(runnerLocation.get());
         }
@@ -36,7 +36,7 @@ public class QuarkusResource {
     }
 
     public boolean isFailed(LoggingHandler loggingHandler) {
-        return loggingHandler != null && ERRORS.stream().anyMatch(error -> loggingHandler.logsContains(error));
+        return loggingHandler != null && loggingHandler.logsContainsAny(ERRORS);
     }
 
     public QuarkusLaunchMode getLaunchMode() {
@@ -14,7 +14,6 @@ import io.jester.core.ServiceContext;
 import io.jester.resources.local.JavaProcessManagedResource;
 import io.jester.resources.quarkus.common.BootstrapQuarkusResource;
 import io.jester.utils.Ports;
-import io.jester.utils.SocketUtils;
 
 public class ProdModeBootstrapQuarkusManagedResourceJava extends JavaProcessManagedResource {
 
@@ -48,7 +47,7 @@ public class ProdModeBootstrapQuarkusManagedResourceJava extends JavaProcessMana
 
     @Override
     public boolean isRunning() {
-        return super.isRunning() && resource.isRunning(getLoggingHandler());
+        return super.isRunning() && (isReadyByProbes() || resource.isRunning(getLoggingHandler()));
     }
 
     @Override
@@ -76,7 +75,7 @@ public class ProdModeBootstrapQuarkusManagedResourceJava extends JavaProcessMana
         // grpc port
         String grpcPort = getProperty(QUARKUS_GRPC_SERVER_PORT);
         if (grpcPort != null) {
-            int assignedGrpcPort = SocketUtils.findAvailablePort(context.getOwner());
+            int assignedGrpcPort = assignAvailablePort();
             customPorts.put(Integer.parseInt(grpcPort), assignedGrpcPort);
             propertiesToOverwrite.put(QUARKUS_GRPC_SERVER_PORT, "" + assignedGrpcPort);
         }
@@ -5,6 +5,8 @@ import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
 
 import io.jester.core.BaseService;
+import io.jester.core.ServiceEndpoint;
+import io.jester.core.readiness.ReadinessProbes;
 
 public class DatabaseService extends BaseService<DatabaseService> {
 
@@ -42,13 +44,14 @@ public class DatabaseService extends BaseService<DatabaseService> {
     }
 
     public String getJdbcUrl() {
-        return jdbcUrlPattern.replaceAll(JDBC_NAME, jdbcName).replaceAll(HOST, getHost())
-                .replaceAll(PORT, "" + getFirstMappedPort()).replaceAll(DATABASE, getDatabase());
+        ServiceEndpoint endpoint = getEndpoint();
+        return toJdbcUrl(endpoint.getHost(), endpoint.getFirstMappedPort());
     }
 
     public String getReactiveUrl() {
-        return reactiveUrlPattern.replaceAll(JDBC_NAME, jdbcName).replaceAll(HOST, getHost())
-                .replaceAll(PORT, "" + getFirstMappedPort()).replaceAll(DATABASE, getDatabase());
+        ServiceEndpoint endpoint = getEndpoint();
+        return reactiveUrlPattern.replaceAll(JDBC_NAME, jdbcName).replaceAll(HOST, endpoint.getHost())
+                .replaceAll(PORT, "" + endpoint.getFirstMappedPort()).replaceAll(DATABASE, getDatabase());
     }
 
     public DatabaseService overrideDefaults(String user, String password, String database) {
@@ -96,6 +99,16 @@ public class DatabaseService extends BaseService<DatabaseService> {
         return this;
     }
 
+    /**
+     * The database will be considered started when a valid JDBC connection can be opened. The JDBC driver needs to be
+     * in the test classpath.
+     */
+    public DatabaseService withJdbcReadinessProbe() {
+        return withReadinessProbe(
+                ReadinessProbes.jdbc(resource -> toJdbcUrl(resource.getHost(), resource.getFirstMappedPort()),
+                        this::getUser, this::getPassword));
+    }
+
     public DatabaseService withJdbcName(String jdbcName) {
         this.jdbcName = jdbcName;
         return this;
@@ -142,4 +155,9 @@ public class DatabaseService extends BaseService<DatabaseService> {
 
         return super.onPreStart(action);
     }
+
+    private String toJdbcUrl(String host, int port) {
+        return jdbcUrlPattern.replaceAll(JDBC_NAME, jdbcName).replaceAll(HOST, host).replaceAll(PORT, "" + port)
+                .replaceAll(DATABASE, getDatabase());
+    }
 }
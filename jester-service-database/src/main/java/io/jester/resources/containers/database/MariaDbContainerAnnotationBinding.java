@@ -1,6 +1,7 @@
 package io.jester.resources.containers.database;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 
 import io.jester.api.DatabaseService;
 import io.jester.api.MariaDbContainer;
@@ -12,8 +13,8 @@ import io.jester.resources.containers.ContainerAnnotationBinding;
 public class MariaDbContainerAnnotationBinding extends ContainerAnnotationBinding {
 
     @Override
-    public boolean isFor(Annotation... annotations) {
-        return findAnnotation(annotations, MariaDbContainer.class).isPresent();
+    public List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return List.of(MariaDbContainer.class);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package io.jester.resources.containers.database;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 
 import io.jester.api.DatabaseService;
 import io.jester.api.MongoDbContainer;
@@ -14,8 +15,8 @@ public class MongoDbContainerAnnotationBinding extends ContainerAnnotationBindin
     private static final String URL_PATTERN = "${JDBC_NAME}://${HOST}:${PORT}";
 
     @Override
-    public boolean isFor(Annotation... annotations) {
-        return findAnnotation(annotations, MongoDbContainer.class).isPresent();
+    public List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return List.of(MongoDbContainer.class);
     }
 
     @Override
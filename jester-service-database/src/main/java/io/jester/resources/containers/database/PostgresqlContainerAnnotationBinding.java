@@ -1,6 +1,7 @@
 package io.jester.resources.containers.database;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 
 import io.jester.api.DatabaseService;
 import io.jester.api.PostgresqlContainer;
@@ -12,8 +13,8 @@ import io.jester.resources.containers.ContainerAnnotationBinding;
 public class PostgresqlContainerAnnotationBinding extends ContainerAnnotationBinding {
 
     @Override
-    public boolean isFor(Annotation... annotations) {
-        return findAnnotation(annotations, PostgresqlContainer.class).isPresent();
+    public List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return List.of(PostgresqlContainer.class);
     }
 
     @Override
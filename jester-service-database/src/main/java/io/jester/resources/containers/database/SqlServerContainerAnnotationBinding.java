@@ -1,6 +1,7 @@
 package io.jester.resources.containers.database;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 
 import io.jester.api.DatabaseService;
 import io.jester.api.Service;
@@ -18,8 +19,8 @@ public class SqlServerContainerAnnotationBinding extends ContainerAnnotationBind
     private static final String REACTIVE_URL_PATTERN = "${JDBC_NAME}://${HOST}:${PORT};databaseName=${DATABASE}";
 
     @Override
-    public boolean isFor(Annotation... annotations) {
-        return findAnnotation(annotations, SqlServerContainer.class).isPresent();
+    public List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return List.of(SqlServerContainer.class);
     }
 
     @Override
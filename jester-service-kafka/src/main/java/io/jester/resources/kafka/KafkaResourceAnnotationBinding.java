@@ -1,7 +1,10 @@
 package io.jester.resources.kafka;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.stream.Collectors;
 
 import io.jester.api.KafkaResource;
 import io.jester.api.Service;
@@ -13,12 +16,12 @@ import io.jester.core.ManagedResource;
 
 public class KafkaResourceAnnotationBinding implements AnnotationBinding {
 
-    private final ServiceLoader<CustomResourceManagedResourceBinding> bindings = ServiceLoader
-            .load(CustomResourceManagedResourceBinding.class);
+    private final List<CustomResourceManagedResourceBinding> bindings = ServiceLoader
+            .load(CustomResourceManagedResourceBinding.class).stream().map(Provider::get).collect(Collectors.toList());
 
     @Override
-    public boolean isFor(Annotation... annotations) {
-        return findAnnotation(annotations, KafkaResource.class).isPresent();
+    public List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return List.of(KafkaResource.class);
     }
 
     @Override
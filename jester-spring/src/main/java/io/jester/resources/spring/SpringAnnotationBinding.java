@@ -1,7 +1,10 @@
 package io.jester.resources.spring;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.stream.Collectors;
 
 import io.jester.api.Service;
 import io.jester.api.Spring;
@@ -13,12 +16,12 @@ import io.jester.resources.spring.local.LocalBootstrapSpringManagedResourceJava;
 
 public class SpringAnnotationBinding implements AnnotationBinding {
 
-    private final ServiceLoader<SpringManagedResourceBinding> customBindings = ServiceLoader
-            .load(SpringManagedResourceBinding.class);
+    private final List<SpringManagedResourceBinding> customBindings = ServiceLoader
+            .load(SpringManagedResourceBinding.class).stream().map(Provider::get).collect(Collectors.toList());
 
     @Override
-    public boolean isFor(Annotation... annotations) {
-        return findAnnotation(annotations, Spring.class).isPresent();
+    public List<Class<? extends Annotation>> getSupportedAnnotations() {
+        return List.of(Spring.class);
     }
 
     @Override
@@ -12,6 +12,7 @@ import java.util.Optional;
 
 import io.jester.configuration.SpringServiceConfiguration;
 import io.jester.configuration.SpringServiceConfigurationBuilder;
+import io.jester.core.LifecyclePhase;
 import io.jester.core.ServiceContext;
 import io.jester.logging.LoggingHandler;
 import io.jester.utils.Command;
@@ -37,9 +38,9 @@ public class SpringResource {
         this.buildCommands = PropertiesUtils.resolveProperties(buildCommands);
         this.context.loadCustomConfiguration(SpringServiceConfiguration.class, new SpringServiceConfigurationBuilder());
         if (forceBuild) {
-            this.runner = tryToBuildRunner();
+            this.runner = buildRunner();
         } else {
-            this.runner = findRunner().map(Path::of).orElseGet(this::tryToBuildRunner);
+            this.runner = findRunner().map(Path::of).orElseGet(this::buildRunner);
         }
 
     }
@@ -57,13 +58,17 @@ public class SpringResource {
     }
 
     public boolean isFailed(LoggingHandler loggingHandler) {
-        return loggingHandler != null && ERRORS.stream().anyMatch(error -> loggingHandler.logsContains(error));
+        return loggingHandler != null && loggingHandler.logsContainsAny(ERRORS);
     }
 
     public String getExpectedLog() {
         return context.getConfigurationAs(SpringServiceConfiguration.class).getExpectedLog();
     }
 
+    private Path buildRunner() {
+        return context.getTimings().time(LifecyclePhase.BUILD, this::tryToBuildRunner);
+    }
+
     private Optional<String> findRunner() {
         return findFile(location.resolve(TARGET), JVM_RUNNER);
     }
@@ -39,7 +39,7 @@ public class LocalBootstrapSpringManagedResourceJava extends JavaProcessManagedR
 
     @Override
     public boolean isRunning() {
-        return super.isRunning() && resource.isRunning(getLoggingHandler());
+        return super.isRunning() && (isReadyByProbes() || resource.isRunning(getLoggingHandler()));
     }
 
     @Override